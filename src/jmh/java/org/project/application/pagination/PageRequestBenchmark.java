@@ -0,0 +1,23 @@
+package org.project.application.pagination;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the page request of every paginated endpoint from its query parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageRequestBenchmark {
+
+    private int limit = 20;
+
+    private int page = 7;
+
+    @Benchmark
+    public PageRequest pageRequest() {
+        return new PageRequest(limit, page);
+    }
+}
@@ -0,0 +1,70 @@
+package org.project.domain.ride.entities;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.domain.ride.enumerations.RideRule;
+import org.project.domain.ride.enumerations.RideStatus;
+import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.value_object.*;
+import org.project.domain.shared.value_objects.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking two seats of a pending ride. Booking changes the ride, so every invocation books a ride restored as
+ * {@code JetRideRepository} does; {@link #restore()} measures that part alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RideBookingBenchmark {
+
+    private RideID rideID;
+    private CarID carID;
+    private RideOwner owner;
+    private Route route;
+    private RideTime rideTime;
+    private Price price;
+    private SeatMap seatMap;
+    private RideDesc description;
+    private EnumSet<RideRule> rules;
+    private Dates dates;
+
+    private UserID passenger;
+    private BookedSeats bookedSeats;
+
+    @Setup
+    public void setUp() {
+        rideID = RideID.newID();
+        carID = new CarID(UUID.randomUUID());
+        owner = new RideOwner(DriverID.newID(), null);
+        route = new Route(new Location("Baku", 40.4093, 49.8671), new Location("Ganja", 40.6828, 46.3606));
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        rideTime = new RideTime(start, start.plusHours(5));
+        price = new Price(BigDecimal.valueOf(25));
+        seatMap = SeatMap.ofEmpty(3, 3).occupy(1, SeatStatus.MALE_OCCUPIED);
+        description = new RideDesc("Morning ride");
+        rules = EnumSet.of(RideRule.NO_SMOKING);
+        dates = Dates.defaultDates();
+
+        passenger = new UserID(UUID.randomUUID());
+        bookedSeats = new BookedSeats(List.of(
+                new PassengerSeat(4, SeatStatus.FEMALE_OCCUPIED),
+                new PassengerSeat(5, SeatStatus.CHILD_OCCUPIED)));
+    }
+
+    @Benchmark
+    public Ride restore() {
+        return Ride.fromRepository(rideID, carID, owner, route, rideTime, price, seatMap, RideStatus.PENDING,
+                description, rules, dates, false, Fee.zero(), 0L);
+    }
+
+    @Benchmark
+    public RideContract book() {
+        return restore().book(passenger, bookedSeats);
+    }
+}
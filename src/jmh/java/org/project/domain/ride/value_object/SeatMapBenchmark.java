@@ -0,0 +1,59 @@
+package org.project.domain.ride.value_object;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.domain.ride.enumerations.SeatStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a full 4x4 seat map from the matrix submitted with a ride form, and occupying a seat of an empty and of a
+ * nearly full map as booking does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SeatMapBenchmark {
+
+    private SeatStatus[][] matrix;
+
+    private SeatMap empty;
+
+    private SeatMap nearlyFull;
+
+    @Setup
+    public void setUp() {
+        matrix = new SeatStatus[4][4];
+        for (SeatStatus[] row : matrix)
+            Arrays.fill(row, SeatStatus.EMPTY);
+        matrix[0][0] = SeatStatus.DRIVER;
+        matrix[1][2] = SeatStatus.FEMALE_OCCUPIED;
+
+        empty = SeatMap.ofEmpty(4, 4);
+
+        SeatMap seats = empty;
+        for (int index = 1; index < 15; index++)
+            seats = seats.occupy(index, SeatStatus.MALE_OCCUPIED);
+        nearlyFull = seats;
+    }
+
+    @Benchmark
+    public SeatMap fromMatrix() {
+        return new SeatMap(matrix);
+    }
+
+    @Benchmark
+    public SeatMap ofEmpty() {
+        return SeatMap.ofEmpty(4, 4);
+    }
+
+    @Benchmark
+    public SeatMap occupyEmpty() {
+        return empty.occupy(5, SeatStatus.CHILD_OCCUPIED);
+    }
+
+    @Benchmark
+    public SeatMap occupyLastFree() {
+        return nearlyFull.occupy(15, SeatStatus.CHILD_OCCUPIED);
+    }
+}
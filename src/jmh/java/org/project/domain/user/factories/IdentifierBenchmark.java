@@ -0,0 +1,40 @@
+package org.project.domain.user.factories;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.domain.user.value_objects.Email;
+import org.project.domain.user.value_objects.Identifier;
+import org.project.domain.user.value_objects.Phone;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of the identifiers users log in with. {@link IdentifierFactory#from} tries an email first, so a phone
+ * number pays for a rejected email on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdentifierBenchmark {
+
+    @Param({ "jane.doe@example.com", "+994 50-123-4567" })
+    public String identifier;
+
+    private String email = "jane.doe@example.com";
+
+    private String phone = "+994 50-123-4567";
+
+    @Benchmark
+    public Identifier factory() {
+        return IdentifierFactory.from(identifier);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public Phone phone() {
+        return new Phone(phone);
+    }
+}
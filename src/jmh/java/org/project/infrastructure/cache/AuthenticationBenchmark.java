@@ -0,0 +1,103 @@
+package org.project.infrastructure.cache;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.build.Jwt;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.openjdk.jmh.annotations.*;
+import org.project.infrastructure.config.DelegatingAuthMechanism;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of resolving the identity behind an access token shaped like those from {@code JWTUtility.generateToken}:
+ * parsing and RSA-verifying it on every request, as before, against a hit in {@link VerifiedTokens}, both on its own
+ * and through {@link DelegatingAuthMechanism#authenticate}.
+ * <p>
+ * The comparison is partial: the "before" side is only the parse and signature check, not a full pass through
+ * {@code JWTAuthMechanism}, which also builds the identity through the identity provider. Real requests without the
+ * cache were therefore somewhat slower than {@code verifyEveryRequest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class AuthenticationBenchmark {
+
+    private DefaultJWTParser parser;
+
+    private VerifiedTokens verifiedTokens;
+
+    private String token;
+
+    private DelegatingAuthMechanism mechanism;
+
+    private RoutingContext context;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keys = generator.generateKeyPair();
+
+        token = Jwt.issuer("UYol")
+                .upn("user@example.com")
+                .groups("USER")
+                .claim("firstname", "First")
+                .claim("surname", "Last")
+                .claim("isVerified", true)
+                .expiresIn(Duration.ofDays(1))
+                .sign(keys.getPrivate());
+
+        parser = new DefaultJWTParser(new JWTAuthContextInfo((RSAPublicKey) keys.getPublic(), "UYol"));
+
+        verifiedTokens = new VerifiedTokens(OpenTelemetry.noop());
+        verifiedTokens.maxSize = 10_000;
+        verifiedTokens.init();
+        verifiedTokens.put(token, QuarkusSecurityIdentity.builder().setPrincipal(parser.parse(token)).build());
+
+        // only cache hits are measured, so the delegate mechanism is never reached
+        Constructor<DelegatingAuthMechanism> constructor =
+                DelegatingAuthMechanism.class.getDeclaredConstructor(JWTAuthMechanism.class, VerifiedTokens.class);
+        constructor.setAccessible(true);
+        mechanism = constructor.newInstance(null, verifiedTokens);
+
+        String authorization = "Bearer " + token;
+        HttpServerRequest request = proxy(HttpServerRequest.class,
+                (proxy, method, args) -> method.getName().equals("getHeader") ? authorization : null);
+        context = proxy(RoutingContext.class,
+                (proxy, method, args) -> method.getName().equals("request") ? request : null);
+    }
+
+    @Benchmark
+    public JsonWebToken verifyEveryRequest() throws Exception {
+        return parser.parse(token);
+    }
+
+    @Benchmark
+    public Object verifiedTokenCache() {
+        return verifiedTokens.get(token).orElseThrow();
+    }
+
+    @Benchmark
+    public SecurityIdentity authenticateCachedToken() {
+        return mechanism.authenticate(context, null).await().indefinitely();
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,120 @@
+package org.project.infrastructure.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.enumerations.RideRule;
+import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.value_object.SeatMap;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding of the ride seat and rule columns in {@code JetRideRepository.mapRide}:
+ * the former Jackson JSON TEXT columns against the bitmask columns, and measures mapping a whole ride row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RideColumnsBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String seatsJson;
+    private String rulesJson;
+
+    private int rows;
+    private int columns;
+    private long maleSeats;
+    private long femaleSeats;
+    private long childSeats;
+    private short rulesMask;
+
+    private ResultSet row;
+
+    @Setup
+    public void setUp() throws Exception {
+        SeatMap seatMap = SeatMap.ofEmpty(4, 4)
+                .occupy(1, SeatStatus.MALE_OCCUPIED)
+                .occupy(5, SeatStatus.FEMALE_OCCUPIED)
+                .occupy(9, SeatStatus.CHILD_OCCUPIED);
+        Set<RideRule> rules = EnumSet.of(RideRule.NO_SMOKING, RideRule.LIMITED_LUGGAGE);
+
+        seatsJson = objectMapper.writeValueAsString(seatMap.seats());
+        rulesJson = objectMapper.writeValueAsString(rules);
+
+        rows = seatMap.rowCount();
+        columns = seatMap.columnCount();
+        maleSeats = seatMap.maleSeats();
+        femaleSeats = seatMap.femaleSeats();
+        childSeats = seatMap.childSeats();
+        rulesMask = JetRideRepository.rulesMask(rules);
+        row = row();
+    }
+
+    @Benchmark
+    public void jsonColumns(Blackhole blackhole) throws Exception {
+        blackhole.consume(new SeatMap(objectMapper.readValue(seatsJson, SeatStatus[][].class)));
+        blackhole.consume(objectMapper.readValue(rulesJson, new TypeReference<Set<RideRule>>() {}));
+    }
+
+    @Benchmark
+    public void bitmaskColumns(Blackhole blackhole) {
+        blackhole.consume(SeatMap.of(rows, columns, maleSeats, femaleSeats, childSeats));
+        blackhole.consume(JetRideRepository.rulesOf(rulesMask));
+    }
+
+    @Benchmark
+    public Ride mapRide() throws Exception {
+        return JetRideRepository.mapRide(row);
+    }
+
+    /**
+     * A single ride row answering the getters {@code mapRide} calls by column label.
+     */
+    private ResultSet row() {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", UUID.randomUUID().toString());
+        values.put("car_id", UUID.randomUUID().toString());
+        values.put("driver_id", UUID.randomUUID().toString());
+        values.put("owner_id", null);
+        values.put("from_location_desc", "Baku");
+        values.put("from_latitude", 40.4093);
+        values.put("from_longitude", 49.8671);
+        values.put("to_location_desc", "Ganja");
+        values.put("to_latitude", 40.6828);
+        values.put("to_longitude", 46.3606);
+        values.put("start_time", Timestamp.valueOf(start));
+        values.put("end_time", Timestamp.valueOf(start.plusHours(5)));
+        values.put("creation_date", Timestamp.valueOf(LocalDateTime.now()));
+        values.put("last_updated", Timestamp.valueOf(LocalDateTime.now()));
+        values.put("price", BigDecimal.valueOf(25));
+        values.put("fee", BigDecimal.ZERO);
+        values.put("status", "PENDING");
+        values.put("description", "Morning ride");
+        values.put("has_active_contract", false);
+        values.put("version", 0L);
+        values.put("seat_rows", (short) rows);
+        values.put("seat_columns", (short) columns);
+        values.put("male_seats", maleSeats);
+        values.put("female_seats", femaleSeats);
+        values.put("child_seats", childSeats);
+        values.put("rules", rulesMask);
+
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> values.get((String) args[0]));
+    }
+}
@@ -0,0 +1,45 @@
+package org.project.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures HOTP generation and look-ahead verification for a single key, and with the key changing on every call as
+ * it does when one thread serves different users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class HOTPGeneratorBenchmark {
+
+    private final HOTPGenerator generator = new HOTPGenerator();
+
+    private String key;
+    private String otherKey;
+    private String lastCodeInWindow;
+
+    @Setup
+    public void setUp() {
+        key = HOTPGenerator.generateSecretKey();
+        otherKey = HOTPGenerator.generateSecretKey();
+        lastCodeInWindow = generator.generateHOTP(key, 9);
+    }
+
+    @Benchmark
+    public String generateSameKey() {
+        return generator.generateHOTP(key, 42);
+    }
+
+    @Benchmark
+    public String generateAlternatingKeys() {
+        generator.generateHOTP(otherKey, 42);
+        return generator.generateHOTP(key, 42);
+    }
+
+    @Benchmark
+    public Object verifyWindowOfTen() {
+        return generator.verifyHOTP(key, 0, 9, lastCodeInWindow);
+    }
+}
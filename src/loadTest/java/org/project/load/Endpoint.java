@@ -0,0 +1,31 @@
+package org.project.load;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints driven by the load test, named as in {@code load.mix}.
+ */
+enum Endpoint {
+    ACTUAL("actual", "GET /ride/actual"),
+    BOOK("book", "POST /ride/reservation/book"),
+    RIDE_REQUESTS("ride-requests", "GET /driver/ride-requests"),
+    LOGIN("login", "POST /auth/login"),
+    USER_HISTORY("user-history", "GET /ride/history/user-rides"),
+    DRIVER_HISTORY("driver-history", "GET /ride/history/driver-rides");
+
+    final String key;
+
+    final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    static Endpoint of(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in load.mix: " + key));
+    }
+}
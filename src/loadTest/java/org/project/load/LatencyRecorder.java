@@ -0,0 +1,75 @@
+package org.project.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencies and failures of every measured request, per endpoint. Latencies are kept whole and sorted once for the
+ * report, which is exact and cheap enough for the request counts of a local run.
+ */
+final class LatencyRecorder {
+
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values())
+            samples.put(endpoint, new Samples());
+    }
+
+    void record(Endpoint endpoint, long latencyNanos, boolean failed) {
+        samples.get(endpoint).add(latencyNanos, failed);
+    }
+
+    /**
+     * @param elapsedSeconds length of the measured window, for throughput
+     */
+    LoadReport report(double elapsedSeconds) {
+        Map<Endpoint, LoadReport.EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        samples.forEach((endpoint, endpointSamples) -> {
+            if (endpointSamples.count > 0)
+                stats.put(endpoint, endpointSamples.stats(elapsedSeconds));
+        });
+        return new LoadReport(elapsedSeconds, stats);
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        private long failures;
+
+        synchronized void add(long latencyNanos, boolean failed) {
+            if (count == latencies.length)
+                latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = latencyNanos;
+            if (failed)
+                failures++;
+        }
+
+        synchronized LoadReport.EndpointStats stats(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadReport.EndpointStats(
+                    count,
+                    failures,
+                    (double) failures / count,
+                    count / elapsedSeconds,
+                    millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.95)),
+                    millis(percentile(sorted, 0.99)),
+                    millis(sorted[count - 1]));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
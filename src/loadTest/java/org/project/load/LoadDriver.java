@@ -0,0 +1,79 @@
+package org.project.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load: requests are started at a fixed rate on a schedule that does not wait for responses, and every
+ * latency is measured from the scheduled start. A slow server therefore shows up as higher latency rather than as
+ * a lower request rate. Requests of the warmup are sent but not recorded.
+ */
+final class LoadDriver {
+
+    private final LoadSettings settings;
+
+    private final Workload workload;
+
+    LoadDriver(LoadSettings settings, Workload workload) {
+        this.settings = settings;
+        this.workload = workload;
+    }
+
+    LoadReport run() throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        ConcurrentLinkedQueue<CompletableFuture<?>> pending = new ConcurrentLinkedQueue<>();
+        SplittableRandom random = new SplittableRandom(settings.seed());
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long start = System.nanoTime();
+        long measuredFrom = start + settings.warmup().toNanos();
+        long end = measuredFrom + settings.duration().toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0)
+                LockSupport.parkNanos(wait);
+
+            Endpoint endpoint = workload.pick(random);
+            HttpRequest request = workload.request(endpoint, random);
+            if (request == null) {
+                endpoint = Endpoint.ACTUAL;
+                request = workload.request(endpoint, random);
+            }
+
+            inFlight.acquire();
+            boolean measured = scheduled >= measuredFrom;
+            long intendedStart = scheduled;
+            Endpoint sent = endpoint;
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.release();
+                        if (measured) {
+                            boolean failed = failure != null || response.statusCode() >= 400;
+                            recorder.record(sent, System.nanoTime() - intendedStart, failed);
+                        }
+                    }));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+
+        return recorder.report(settings.duration().toNanos() / 1e9);
+    }
+}
@@ -0,0 +1,59 @@
+package org.project.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of a load test run, printed as a table and written as JSON so runs can be compared.
+ *
+ * @param elapsedSeconds length of the measured window, warmup excluded
+ */
+record LoadReport(double elapsedSeconds, Map<Endpoint, EndpointStats> endpoints) {
+
+    /**
+     * Latencies are in milliseconds, measured from the moment the request was scheduled to start.
+     */
+    record EndpointStats(long requests, long errors, double errorRate, double throughput,
+                         double p50, double p95, double p99, double max) {}
+
+    long requests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::requests).sum();
+    }
+
+    long errors() {
+        return endpoints.values().stream().mapToLong(EndpointStats::errors).sum();
+    }
+
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) errors() / requests;
+    }
+
+    String table() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-32s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "err %", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        endpoints.forEach((endpoint, stats) -> table.append(String.format(Locale.ROOT,
+                "%-32s %9d %8d %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint.label, stats.requests(), stats.errors(), stats.errorRate() * 100, stats.throughput(),
+                stats.p50(), stats.p95(), stats.p99(), stats.max())));
+
+        table.append(String.format(Locale.ROOT, "%-32s %9d %8d %8.2f %9.1f%n",
+                "total", requests(), errors(), errorRate() * 100, requests() / elapsedSeconds));
+        return table.toString();
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+    }
+}
@@ -0,0 +1,64 @@
+package org.project.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code load.*} system properties so they can be passed as
+ * {@code ./gradlew loadTest -Pload.rate=200}.
+ *
+ * @param rate        requests started per second, whether or not earlier ones have finished
+ * @param maxInFlight requests in flight before dispatching waits; latency still counts from the scheduled start
+ * @param seed        seed of the request mix, so a run can be repeated
+ */
+record LoadSettings(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        long seed,
+        Map<Endpoint, Integer> mix,
+        int drivers,
+        int loginUsers,
+        double maxErrorRate) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("load.rate", 50),
+                Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 60)),
+                Integer.getInteger("load.max-in-flight", 256),
+                Long.getLong("load.seed", 42L),
+                mix(System.getProperty("load.mix", "actual=40,book=10,ride-requests=15,login=5,user-history=20,driver-history=10")),
+                Integer.getInteger("load.drivers", 20),
+                Integer.getInteger("load.login-users", 10),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")));
+    }
+
+    /**
+     * @return requests of the endpoint expected over warmup and measurement together
+     */
+    long expected(Endpoint endpoint) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long requests = rate * (warmup.toSeconds() + duration.toSeconds());
+        return requests * mix.getOrDefault(endpoint, 0) / Math.max(total, 1);
+    }
+
+    private static Map<Endpoint, Integer> mix(String weights) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : weights.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2)
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0)
+                mix.put(Endpoint.of(pair[0].trim()), weight);
+        }
+        if (mix.isEmpty())
+            throw new IllegalArgumentException("load.mix has no endpoint with a positive weight");
+
+        return mix;
+    }
+}
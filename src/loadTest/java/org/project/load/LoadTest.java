@@ -0,0 +1,203 @@
+package org.project.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.logging.Log;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.project.application.dto.auth.LoginForm;
+import org.project.application.dto.auth.RegistrationForm;
+import org.project.domain.fleet.entities.Car;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.fleet.entities.Owner;
+import org.project.domain.fleet.repositories.CarRepository;
+import org.project.domain.fleet.repositories.DriverRepository;
+import org.project.domain.fleet.repositories.OwnerRepository;
+import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.entities.RideRequest;
+import org.project.domain.ride.enumerations.RideRule;
+import org.project.domain.ride.repositories.RideRepository;
+import org.project.domain.ride.value_object.*;
+import org.project.domain.user.entities.User;
+import org.project.domain.user.repositories.UserRepository;
+import org.project.features.util.DBManagementUtils;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.RedisTestResource;
+import org.project.features.util.TestDataGenerator;
+import org.project.infrastructure.cache.RideRequests;
+import org.project.infrastructure.security.JWTUtility;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application against Testcontainers Postgres and Redis, seeds drivers, rides, passengers and login users,
+ * and drives the {@code load.mix} workload at {@code load.rate} requests per second. Latency percentiles, throughput
+ * and error rates per endpoint are logged and written to {@code load.report}, and the run fails above
+ * {@code load.max-error-rate}. Runs only with {@code ./gradlew loadTest}.
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresTestResource.class)
+@QuarkusTestResource(RedisTestResource.class)
+class LoadTest {
+
+    /**
+     * Passenger seats of the 4x4 seat map every seeded ride has; seat 0 is the driver's.
+     */
+    private static final int SEATS_PER_RIDE = 15;
+
+    private static final int RIDE_REQUESTS_PER_DRIVER = 3;
+
+    private static final List<Workload.Search> ROUTES = List.of(
+            new Workload.Search(new Location("Baku", 40.4093, 49.8671), new Location("Sumqayit", 40.5897, 49.6686)),
+            new Workload.Search(new Location("Baku", 40.4093, 49.8671), new Location("Ganja", 40.6828, 46.3606)),
+            new Workload.Search(new Location("Sheki", 41.1919, 47.1706), new Location("Baku", 40.4093, 49.8671)),
+            new Workload.Search(new Location("Lankaran", 38.7529, 48.8475), new Location("Baku", 40.4093, 49.8671)));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    DriverRepository driverRepository;
+
+    @Inject
+    OwnerRepository ownerRepository;
+
+    @Inject
+    CarRepository carRepository;
+
+    @Inject
+    RideRepository rideRepository;
+
+    @Inject
+    RideRequests rideRequests;
+
+    @Inject
+    JWTUtility jwtUtility;
+
+    @Inject
+    DBManagementUtils dbManagement;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        Workload workload = seed(settings);
+
+        LoadReport report = new LoadDriver(settings, workload).run();
+
+        Log.infof("Load test at %d req/s for %ds:%n%s", settings.rate(), settings.duration().toSeconds(), report.table());
+        report.write(Path.of(System.getProperty("load.report", "build/reports/load/load-report.json")));
+
+        assertThat(report.errorRate())
+                .as("error rate over all endpoints")
+                .isLessThanOrEqualTo(settings.maxErrorRate());
+    }
+
+    private Workload seed(LoadSettings settings) throws Exception {
+        Random random = new Random(settings.seed());
+        Owner owner = owner();
+        Car ownerCar = TestDataGenerator.car(owner.userID(), TestDataGenerator.generateLicensePlate());
+        assertThat(carRepository.save(ownerCar).success()).isTrue();
+
+        List<Driver> drivers = new ArrayList<>();
+        List<Car> cars = new ArrayList<>();
+        List<String> driverTokens = new ArrayList<>();
+        for (int i = 0; i < settings.drivers(); i++) {
+            User user = user();
+            Driver driver = Driver.of(user.userID(), TestDataGenerator.driverLicense());
+            assertThat(driverRepository.save(driver).success()).isTrue();
+            Car car = TestDataGenerator.car(user.userID());
+            assertThat(carRepository.save(car).success()).isTrue();
+
+            drivers.add(driver);
+            cars.add(car);
+            driverTokens.add(jwtUtility.generateToken(user));
+
+            for (int j = 0; j < RIDE_REQUESTS_PER_DRIVER; j++)
+                rideRequests.put(driver.id(), rideRequest(driver, owner, ownerCar, random));
+        }
+
+        List<String> passengerTokens = new ArrayList<>();
+        for (int seat = 1; seat <= SEATS_PER_RIDE; seat++)
+            passengerTokens.add(jwtUtility.generateToken(user()));
+
+        LocalDate rideDate = LocalDate.now().plusDays(1);
+        long rideCount = Math.max(ROUTES.size() * 2L, (settings.expected(Endpoint.BOOK) + SEATS_PER_RIDE - 1) / SEATS_PER_RIDE);
+        List<Workload.Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < rideCount; i++) {
+            int driver = i % drivers.size();
+            Workload.Search search = ROUTES.get(i % ROUTES.size());
+            LocalDateTime start = rideDate.atTime(6, 0).plusMinutes(random.nextInt(12 * 60));
+
+            Ride ride = Ride.of(cars.get(driver).id(), new RideOwner(drivers.get(driver).id(), null),
+                    new Route(search.from(), search.to()),
+                    new RideTime(start, start.plusHours(3)),
+                    new Price(BigDecimal.valueOf(5 + random.nextInt(30))),
+                    SeatMap.ofEmpty(4, 4),
+                    new RideDesc("Load test ride " + i),
+                    EnumSet.of(RideRule.NO_SMOKING));
+            assertThat(rideRepository.save(ride).success()).isTrue();
+
+            for (int seat = 1; seat <= SEATS_PER_RIDE; seat++)
+                bookings.add(new Workload.Booking(passengerTokens.get(seat - 1), booking(ride, seat)));
+        }
+        Collections.shuffle(bookings, random);
+
+        List<String> logins = new ArrayList<>();
+        for (int i = 0; i < settings.loginUsers(); i++) {
+            RegistrationForm form = TestDataGenerator.generateRegistrationForm();
+            dbManagement.saveAndVerifyUser(form);
+            logins.add(objectMapper.writeValueAsString(new LoginForm(form.phone(), form.password())));
+        }
+
+        Log.infof("Seeded %d drivers, %d rides, %d bookable seats and %d login users",
+                drivers.size(), rideCount, bookings.size(), logins.size());
+
+        return new Workload("http://localhost:" + RestAssured.port + "/uyol", rideDate.toString(), ROUTES, bookings,
+                driverTokens, passengerTokens, logins, settings.mix());
+    }
+
+    private User user() {
+        User user = TestDataGenerator.user();
+        assertThat(userRepository.save(user).success()).isTrue();
+        return user;
+    }
+
+    private Owner owner() {
+        Owner owner = Owner.of(user().userID(), TestDataGenerator.voen());
+        assertThat(ownerRepository.save(owner).success()).isTrue();
+        return owner;
+    }
+
+    private static RideRequest rideRequest(Driver driver, Owner owner, Car car, Random random) {
+        Workload.Search search = ROUTES.get(random.nextInt(ROUTES.size()));
+        LocalDateTime start = LocalDateTime.now().plusDays(2).plusMinutes(random.nextInt(600));
+        return new RideRequest(
+                new RideRequestID(UUID.randomUUID()),
+                driver.id(),
+                owner.id(),
+                car.licensePlate(),
+                new Route(search.from(), search.to()),
+                new RideTime(start, start.plusHours(3)),
+                new Price(BigDecimal.valueOf(20)),
+                SeatMap.ofEmpty(4, 4),
+                new RideDesc("Load test ride request"),
+                EnumSet.of(RideRule.NO_SMOKING),
+                LocalDateTime.now());
+    }
+
+    private String booking(Ride ride, int seat) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "rideID", ride.id().value().toString(),
+                "bookedSeats", List.of(Map.of("index", seat, "status", "MALE_OCCUPIED"))));
+    }
+}
@@ -0,0 +1,145 @@
+package org.project.load;
+
+import org.project.domain.ride.value_object.Location;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The requests of the run, built from the seeded data. Searches pick one of the seeded routes with a few hundred
+ * metres of jitter, and every booking takes a seat no one else has booked, so bookings only fail when the
+ * application does.
+ */
+final class Workload {
+
+    /**
+     * @param body JSON body booking one free seat of a seeded ride
+     */
+    record Booking(String passengerToken, String body) {}
+
+    record Search(Location from, Location to) {}
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+
+    private final String rideDate;
+
+    private final List<Search> searches;
+
+    private final Queue<Booking> bookings;
+
+    private final List<String> driverTokens;
+
+    private final List<String> passengerTokens;
+
+    private final List<String> logins;
+
+    private final Endpoint[] endpoints;
+
+    private final int[] cumulativeWeights;
+
+    Workload(String baseUrl, String rideDate, List<Search> searches, List<Booking> bookings,
+             List<String> driverTokens, List<String> passengerTokens, List<String> logins,
+             Map<Endpoint, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.rideDate = rideDate;
+        this.searches = searches;
+        this.bookings = new ConcurrentLinkedQueue<>(bookings);
+        this.driverTokens = driverTokens;
+        this.passengerTokens = passengerTokens;
+        this.logins = logins;
+
+        Map<Endpoint, Integer> weights = new EnumMap<>(mix);
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Endpoint pick(SplittableRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i])
+                return endpoints[i];
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * @return the next request to the endpoint, or {@code null} once every seeded seat is booked
+     */
+    HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        return switch (endpoint) {
+            case ACTUAL -> actual(random);
+            case BOOK -> book();
+            case RIDE_REQUESTS -> authorized(any(driverTokens, random), "/driver/ride-requests?pageNumber=1&pageSize=10")
+                    .GET().build();
+            case LOGIN -> json("/auth/login").POST(HttpRequest.BodyPublishers.ofString(any(logins, random))).build();
+            case USER_HISTORY -> authorized(any(passengerTokens, random), "/ride/history/user-rides?pageNumber=1&pageSize=10")
+                    .GET().build();
+            case DRIVER_HISTORY -> authorized(any(driverTokens, random), "/ride/history/driver-rides?pageNumber=1&pageSize=10")
+                    .GET().build();
+        };
+    }
+
+    private HttpRequest actual(SplittableRandom random) {
+        Search search = any(searches, random);
+        String query = "/ride/actual?date=" + rideDate
+                + "&startDesc=" + encode(search.from().description())
+                + "&startLat=" + jitter(search.from().latitude(), random)
+                + "&startLon=" + jitter(search.from().longitude(), random)
+                + "&endDesc=" + encode(search.to().description())
+                + "&endLat=" + jitter(search.to().latitude(), random)
+                + "&endLon=" + jitter(search.to().longitude(), random)
+                + "&radiusKm=10&limit=10&offset=0";
+        return request(query).GET().build();
+    }
+
+    private HttpRequest book() {
+        Booking booking = bookings.poll();
+        if (booking == null)
+            return null;
+
+        return json("/ride/reservation/book")
+                .header("Authorization", "Bearer " + booking.passengerToken())
+                .POST(HttpRequest.BodyPublishers.ofString(booking.body()))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return request(path).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private static <T> T any(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static double jitter(double coordinate, SplittableRandom random) {
+        return coordinate + (random.nextDouble() - 0.5) * 0.005;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -5,12 +5,14 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.project.application.dto.fleet.DriverDTO;
-import org.project.application.pagination.PageRequest;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.service.AvailableDriversService;
+import org.project.domain.shared.value_objects.Pageable;
 
-import java.util.List;
+import static org.project.application.util.RestUtil.page;
 
 @Path("/available/drivers")
 @RolesAllowed("USER")
@@ -26,10 +28,12 @@ public class AvailableDriversResource {
     }
 
     @GET
-    public List<DriverDTO> availableDrivers(
+    public Response availableDrivers(
             @QueryParam("page") int page,
-            @QueryParam("size") int size) {
+            @QueryParam("size") int size,
+            @QueryParam("cursor") String cursor) {
 
-        return availableDrivers.page(jwt.getName(), new PageRequest(size, page));
+        Pageable pageable = CursorRequest.of(size, page, cursor);
+        return page(availableDrivers.page(jwt.getName(), pageable), pageable, DriverDTO::sortKey);
     }
 }
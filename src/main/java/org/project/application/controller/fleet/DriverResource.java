@@ -1,14 +1,20 @@
 package org.project.application.controller.fleet;
 
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 import org.project.application.dto.fleet.CarDTO;
 import org.project.application.dto.ride.DriverRideForm;
 import org.project.application.dto.ride.RideDTO;
+import org.project.application.dto.ride.RideRequestEvent;
 import org.project.application.dto.ride.RideRequestToDriver;
+import org.project.application.pagination.PageRequest;
 import org.project.application.service.DriverService;
 import org.project.domain.ride.enumerations.RideRule;
 import org.project.domain.ride.value_object.RideRequestID;
@@ -86,8 +92,18 @@ public class DriverResource {
 
     @GET
     @Path("/ride-requests")
-    public List<RideRequestToDriver> rideRequests() {
-        return service.rideRequests(jwt.getName());
+    public List<RideRequestToDriver> rideRequests(@QueryParam("pageNumber") @DefaultValue("1") int pageNumber,
+                                                  @QueryParam("pageSize") @DefaultValue("10") int pageSize) {
+        return service.rideRequests(jwt.getName(), new PageRequest(pageSize, pageNumber));
+    }
+
+    @GET
+    @Blocking
+    @Path("/ride-requests/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<RideRequestEvent> rideRequestStream() {
+        return service.rideRequestStream(jwt.getName());
     }
 
     @POST
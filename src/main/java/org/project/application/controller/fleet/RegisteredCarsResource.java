@@ -5,13 +5,17 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.project.application.dto.fleet.CarDTO;
-import org.project.application.pagination.PageRequest;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.service.RegisteredCarsService;
+import org.project.domain.shared.value_objects.Pageable;
 
 import java.util.List;
 
+import static org.project.application.util.RestUtil.page;
+
 @Path("/registered/cars")
 @RolesAllowed("USER")
 public class RegisteredCarsResource {
@@ -26,7 +30,9 @@ public class RegisteredCarsResource {
     }
 
     @GET
-    public List<CarDTO> registeredCars(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize) {
-        return carsService.registeredCars(jwt.getName(), new PageRequest(pageSize, pageNumber));
+    public Response registeredCars(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize,
+                                   @QueryParam("cursor") String cursor) {
+        Pageable pageable = CursorRequest.of(pageSize, pageNumber, cursor);
+        return page(carsService.registeredCars(jwt.getName(), pageable), pageable, car -> List.of(car.licensePlate()));
     }
 }
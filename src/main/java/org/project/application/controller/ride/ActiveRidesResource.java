@@ -3,13 +3,18 @@ package org.project.application.controller.ride;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.project.application.dto.ride.RideDTO;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.pagination.PageRequest;
 import org.project.application.service.ActiveRidesService;
 import org.project.domain.ride.value_object.Location;
+import org.project.domain.shared.value_objects.Pageable;
 
 import java.util.List;
 
+import static org.project.application.util.RestUtil.page;
+
 @Path("/ride")
 public class ActiveRidesResource {
 
@@ -21,12 +26,14 @@ public class ActiveRidesResource {
 
     @GET
     @Path("/date")
-    public List<RideDTO> pageOf(
+    public Response pageOf(
             @QueryParam("date") String date,
             @QueryParam("limit") int limit,
-            @QueryParam("offset") int offset) {
+            @QueryParam("offset") int offset,
+            @QueryParam("cursor") String cursor) {
 
-        return ridesService.pageBy(date, new PageRequest(limit, offset));
+        Pageable pageable = CursorRequest.of(limit, offset, cursor);
+        return page(ridesService.pageBy(date, pageable), pageable, RideDTO::sortKey);
     }
 
     @GET
@@ -39,12 +46,14 @@ public class ActiveRidesResource {
             @QueryParam("endDesc") String endDesc,
             @QueryParam("endLat") double endLat,
             @QueryParam("endLon") double endLon,
+            @QueryParam("radiusKm") Double radiusKm,
             @QueryParam("limit") int limit,
             @QueryParam("offset") int offset) {
 
         return ridesService.actualFor(date,
                 new Location(startDesc, startLat, startLon),
                 new Location(endDesc, endLat, endLon),
+                radiusKm,
                 new PageRequest(limit, offset));
     }
 }
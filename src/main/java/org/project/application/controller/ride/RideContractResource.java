@@ -5,14 +5,18 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.project.application.dto.ride.RideContractDTO;
-import org.project.application.pagination.PageRequest;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.service.RideContractService;
+import org.project.domain.shared.value_objects.Pageable;
 
 import java.util.List;
 import java.util.UUID;
 
+import static org.project.application.util.RestUtil.page;
+
 @Path("/ride/contract")
 @RolesAllowed("USER")
 public class RideContractResource {
@@ -33,20 +37,24 @@ public class RideContractResource {
 
     @GET
     @Path("/of/ride")
-    public List<RideContractDTO> rideContracts(
+    public Response rideContracts(
             @QueryParam("rideID") UUID rideID,
             @QueryParam("page") int page,
-            @QueryParam("size") int size) {
+            @QueryParam("size") int size,
+            @QueryParam("cursor") String cursor) {
 
-        return rideContract.ofRide(jwt.getName(), rideID, new PageRequest(size, page));
+        Pageable pageable = CursorRequest.of(size, page, cursor);
+        return page(rideContract.ofRide(jwt.getName(), rideID, pageable), pageable, contract -> List.of(contract.rideContractID()));
     }
 
     @GET
     @Path("/all")
-    public List<RideContractDTO> rideContracts(
+    public Response rideContracts(
             @QueryParam("page") int page,
-            @QueryParam("size") int size) {
+            @QueryParam("size") int size,
+            @QueryParam("cursor") String cursor) {
 
-        return rideContract.ofUser(jwt.getName(), new PageRequest(size, page));
+        Pageable pageable = CursorRequest.of(size, page, cursor);
+        return page(rideContract.ofUser(jwt.getName(), pageable), pageable, contract -> List.of(contract.rideContractID()));
     }
 }
@@ -5,12 +5,14 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.project.application.dto.ride.RideDTO;
-import org.project.application.pagination.PageRequest;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.service.RideHistoryService;
+import org.project.domain.shared.value_objects.Pageable;
 
-import java.util.List;
+import static org.project.application.util.RestUtil.page;
 
 @Path("/ride/history")
 @RolesAllowed("USER")
@@ -27,19 +29,25 @@ public class RideHistoryResource {
 
     @GET
     @Path("/user-rides")
-    public List<RideDTO> userRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize) {
-        return historyService.userRides(jwt.getName(), new PageRequest(pageSize, pageNumber));
+    public Response userRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize,
+                              @QueryParam("cursor") String cursor) {
+        Pageable pageable = CursorRequest.of(pageSize, pageNumber, cursor);
+        return page(historyService.userRides(jwt.getName(), pageable), pageable, RideDTO::sortKey);
     }
 
     @GET
     @Path("/driver-rides")
-    public List<RideDTO> driverRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize) {
-        return historyService.driverRides(jwt.getName(), new PageRequest(pageSize, pageNumber));
+    public Response driverRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize,
+                              @QueryParam("cursor") String cursor) {
+        Pageable pageable = CursorRequest.of(pageSize, pageNumber, cursor);
+        return page(historyService.driverRides(jwt.getName(), pageable), pageable, RideDTO::sortKey);
     }
 
     @GET
     @Path("/owner-rides")
-    public List<RideDTO> ownerRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize) {
-        return historyService.ownerRides(jwt.getName(), new PageRequest(pageSize, pageNumber));
+    public Response ownerRides(@QueryParam("pageNumber") int pageNumber, @QueryParam("pageSize") int pageSize,
+                              @QueryParam("cursor") String cursor) {
+        Pageable pageable = CursorRequest.of(pageSize, pageNumber, cursor);
+        return page(historyService.ownerRides(jwt.getName(), pageable), pageable, RideDTO::sortKey);
     }
 }
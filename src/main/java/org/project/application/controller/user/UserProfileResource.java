@@ -1,5 +1,6 @@
 package org.project.application.controller.user;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import jakarta.enterprise.inject.Instance;
@@ -8,13 +9,20 @@ import org.project.application.dto.profile.ProfilePictureDTO;
 import org.project.application.dto.profile.UserProfileDTO;
 import org.project.application.service.UserProfileService;
 import org.project.domain.user.value_objects.ProfilePicture;
+import org.project.infrastructure.files.PictureFile;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 @Path("/user/profile")
@@ -42,6 +50,32 @@ public class UserProfileResource {
     return new ProfilePictureDTO(profilePicture.profilePicture(), profilePicture.imageType());
   }
 
+  /**
+   * The picture itself, streamed from storage without being read into memory. Clients revalidate with
+   * {@code If-None-Match} and get {@code 304} while the picture is unchanged. With {@code size} of 64, 256 or 512
+   * a downscaled variant is returned.
+   */
+  @GET
+  @Path("/picture/raw")
+  @Produces({ "image/jpeg", "image/png" })
+  public Response rawPicture(@QueryParam("size") Integer size, @Context Request request) throws IOException {
+    PictureFile picture = profile.profilePictureFileOf(jwt.getName(), size);
+    EntityTag etag = new EntityTag(picture.etag());
+
+    CacheControl cacheControl = new CacheControl();
+    cacheControl.setPrivate(true);
+    cacheControl.setNoCache(true);
+
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+    if (notModified != null)
+      return notModified.cacheControl(cacheControl).build();
+
+    return Response.ok(picture.entity(), picture.mediaType())
+        .tag(etag)
+        .cacheControl(cacheControl)
+        .build();
+  }
+
   @PUT
   @Path("/picture/change")
   @Consumes(MediaType.APPLICATION_OCTET_STREAM)
@@ -1,14 +1,20 @@
 package org.project.application.dto.fleet;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.value_objects.NoRating;
 import org.project.domain.fleet.value_objects.Rated;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 public record DriverDTO(
         String driverID,
         int totalRides,
         int totalReviews,
-        double averageScore
+        double averageScore,
+        @JsonIgnore LocalDateTime createdAt
 ) {
     public static DriverDTO from(Driver driver) {
         int totalReviews;
@@ -22,7 +28,15 @@ public record DriverDTO(
                 driver.id().value().toString(),
                 driver.rides().value(),
                 totalReviews,
-                averageScore
+                averageScore,
+                driver.dates().createdAt().truncatedTo(ChronoUnit.MICROS)
         );
     }
+
+    /**
+     * @return the ranking key of available drivers: average rating, creation time and id
+     */
+    public List<Object> sortKey() {
+        return List.of(averageScore, createdAt, driverID);
+    }
 }
@@ -5,6 +5,7 @@ import org.project.domain.ride.enumerations.RideStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record RideDTO(
     String id,
@@ -38,4 +39,11 @@ public record RideDTO(
                 ride.status()
         );
     }
+
+    /**
+     * @return the key rides are paged by: start time and id
+     */
+    public List<Object> sortKey() {
+        return List.of(startTime, id);
+    }
 }
\ No newline at end of file
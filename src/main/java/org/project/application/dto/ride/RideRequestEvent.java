@@ -0,0 +1,31 @@
+package org.project.application.dto.ride;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RideRequestEvent(
+        Type type,
+        UUID driverID,
+        UUID rideRequestID,
+        LocalDateTime expiresAt,
+        RideRequestToDriver rideRequest
+) {
+    public enum Type {
+        CREATED,
+        ACCEPTED,
+        EXPIRED
+    }
+
+    public static RideRequestEvent created(UUID driverID, UUID rideRequestID, LocalDateTime expiresAt,
+                                           RideRequestToDriver rideRequest) {
+        return new RideRequestEvent(Type.CREATED, driverID, rideRequestID, expiresAt, rideRequest);
+    }
+
+    public static RideRequestEvent accepted(UUID driverID, UUID rideRequestID) {
+        return new RideRequestEvent(Type.ACCEPTED, driverID, rideRequestID, null, null);
+    }
+
+    public static RideRequestEvent expired(UUID driverID, UUID rideRequestID) {
+        return new RideRequestEvent(Type.EXPIRED, driverID, rideRequestID, null, null);
+    }
+}
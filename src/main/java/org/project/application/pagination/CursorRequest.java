@@ -0,0 +1,79 @@
+package org.project.application.pagination;
+
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
+import org.project.domain.shared.value_objects.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset page: the next {@code limit} elements after the one the cursor points at.
+ * <p>
+ * The cursor is an opaque token around the sort key of the last element a client has seen, one value per ordering
+ * column ending in the unique id. Repositories seek past that tuple directly, so the cost of a page does not grow with
+ * its depth the way {@code OFFSET} does, and a page stays stable when the last element is deleted or re-ranked.
+ */
+public record CursorRequest(int limit, List<String> lastKey) implements Pageable {
+  public CursorRequest {
+    if (limit <= 0)
+      throw new IllegalDomainArgumentException("Limit must be positive");
+    if (lastKey == null || lastKey.isEmpty())
+      throw new IllegalDomainArgumentException("Cursor cannot be empty");
+
+    limit = PageRequest.buildLimit(limit);
+    lastKey = List.copyOf(lastKey);
+  }
+
+  /**
+   * @return a cursor page if the client sent a cursor, otherwise the numbered page
+   */
+  public static Pageable of(int pageSize, int pageNumber, String cursor) {
+    if (cursor == null || cursor.isBlank())
+      return new PageRequest(pageSize, pageNumber);
+
+    return new CursorRequest(pageSize, decode(cursor));
+  }
+
+  /**
+   * @param key sort key of an element, in the order the repository sorts by
+   * @return cursor to the page following {@code page}, or empty if it was the last one
+   */
+  public static <T> Optional<String> next(List<T> page, Pageable request, Function<T, List<?>> key) {
+    if (page.isEmpty() || page.size() < request.limit())
+      return Optional.empty();
+
+    return Optional.of(encode(key.apply(page.getLast())));
+  }
+
+  @Override
+  public int offset() {
+    return 0;
+  }
+
+  @Override
+  public Optional<List<String>> after() {
+    return Optional.of(lastKey);
+  }
+
+  static String encode(List<?> key) {
+    return key.stream()
+        .map(value -> Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8)))
+        .collect(Collectors.joining("."));
+  }
+
+  static List<String> decode(String cursor) {
+    try {
+      return Arrays.stream(cursor.split("\\.", -1))
+          .map(value -> new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8))
+          .toList();
+    } catch (IllegalArgumentException e) {
+      throw new IllegalDomainArgumentException("Invalid cursor");
+    }
+  }
+}
@@ -6,7 +6,10 @@ import org.project.application.dto.ride.RideDTO;
 import org.project.application.pagination.PageRequest;
 import org.project.domain.ride.repositories.RideRepository;
 import org.project.domain.ride.value_object.Location;
+import org.project.domain.ride.value_object.SearchRadius;
 import org.project.domain.shared.containers.Result;
+import org.project.domain.shared.value_objects.Pageable;
+import org.project.infrastructure.cache.PendingRidesIndex;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,11 +21,14 @@ public class ActiveRidesService {
 
     private final RideRepository rideRepository;
 
-    ActiveRidesService(RideRepository rideRepository) {
+    private final PendingRidesIndex pendingRides;
+
+    ActiveRidesService(RideRepository rideRepository, PendingRidesIndex pendingRides) {
         this.rideRepository = rideRepository;
+        this.pendingRides = pendingRides;
     }
 
-    public List<RideDTO> pageBy(String date, PageRequest pageRequest) {
+    public List<RideDTO> pageBy(String date, Pageable pageRequest) {
         LocalDate localDate = Result.ofThrowable(() -> LocalDate.parse(date))
                 .orElseThrow(() -> responseException(Response.Status.BAD_REQUEST, "Invalid date format"));
 
@@ -30,11 +36,15 @@ public class ActiveRidesService {
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "No data found for this page"));
     }
 
-    public List<RideDTO> actualFor(String date, Location startLocation, Location endLocation, PageRequest pageRequest) {
+    public List<RideDTO> actualFor(String date, Location startLocation, Location endLocation,
+                                   Double radiusKm, PageRequest pageRequest) {
         LocalDate localDate = Result.ofThrowable(() -> LocalDate.parse(date))
                 .orElseThrow(() -> responseException(Response.Status.BAD_REQUEST, "Invalid date format"));
 
-        return rideRepository.actualFor(startLocation, endLocation, localDate, pageRequest)
-                .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "No data found for this page"));
+        SearchRadius radius = radiusKm == null ? SearchRadius.defaultRadius() : new SearchRadius(radiusKm);
+
+        return pendingRides.actualFor(startLocation, endLocation, radius, localDate, pageRequest)
+                .orElseGet(() -> rideRepository.actualFor(startLocation, endLocation, radius, localDate, pageRequest)
+                        .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "No data found for this page")));
     }
 }
@@ -3,9 +3,8 @@ package org.project.application.service;
 import static org.project.application.util.RestUtil.required;
 import static org.project.application.util.RestUtil.responseException;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
@@ -19,16 +18,20 @@ import org.project.domain.shared.containers.Result;
 import org.project.domain.shared.exceptions.IllegalDomainStateException;
 import org.project.domain.user.entities.OTP;
 import org.project.domain.user.entities.User;
+import org.project.domain.user.repositories.NotificationRepository;
 import org.project.domain.user.repositories.OTPRepository;
 import org.project.domain.user.repositories.UserRepository;
 import org.project.domain.user.value_objects.Email;
+import org.project.domain.user.value_objects.Notification;
 import org.project.domain.user.value_objects.Password;
 import org.project.domain.user.value_objects.PersonalData;
 import org.project.domain.user.value_objects.Phone;
 import org.project.domain.user.value_objects.RefreshToken;
 import org.project.domain.user.factories.IdentifierFactory;
+import org.project.infrastructure.cache.RefreshTokens;
+import org.project.infrastructure.cache.RefreshTokens.RefreshSession;
 import org.project.infrastructure.communication.EmailInteractionService;
-import org.project.infrastructure.communication.PhoneInteractionService;
+import org.project.infrastructure.security.AccessClaims;
 import org.project.infrastructure.security.HOTPGenerator;
 import org.project.infrastructure.security.JWTUtility;
 import org.project.infrastructure.security.PasswordEncoder;
@@ -51,20 +54,20 @@ public class AuthService {
 
 	private final PasswordEncoder passwordEncoder;
 
-	private final EmailInteractionService emailInteractionService;
+	private final NotificationRepository notificationRepository;
 
-	private final PhoneInteractionService phoneInteractionService;
+	private final RefreshTokens refreshTokens;
 
 	AuthService(JWTUtility jwtUtility, UserRepository userRepository, OTPRepository otpRepository,
-			EmailInteractionService emailInteractionService, PhoneInteractionService phoneInteractionService,
-			PasswordEncoder passwordEncoder) {
+			NotificationRepository notificationRepository, PasswordEncoder passwordEncoder,
+			RefreshTokens refreshTokens) {
 
 		this.jwtUtility = jwtUtility;
 		this.userRepository = userRepository;
 		this.otpRepository = otpRepository;
-		this.emailInteractionService = emailInteractionService;
-		this.phoneInteractionService = phoneInteractionService;
+		this.notificationRepository = notificationRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.refreshTokens = refreshTokens;
 		this.hotpGenerator = new HOTPGenerator();
 	}
 
@@ -164,7 +167,7 @@ public class AuthService {
 		User user = verifiedUserBy(identifier);
 		OTP otp = OTP.of(user, hotpGenerator.generateHOTP(user.keyAndCounter().key(), user.keyAndCounter().counter()));
 
-		otpRepository.save(otp)
+		otpRepository.save(otp, otpNotification(user, otp))
 				.orElseThrow(() -> responseException(Response.Status.INTERNAL_SERVER_ERROR, "Failed to save OTP"));
 
 		user.incrementCounter();
@@ -173,13 +176,6 @@ public class AuthService {
 			otpRepository.remove(otp).ifFailure(throwable -> Log.error("Can't remove OTP", throwable));
 			return responseException(Response.Status.INTERNAL_SERVER_ERROR, "Failed to update user counter");
 		});
-
-		if (user.personalData().email().isPresent()) {
-			emailInteractionService.sendOTP(otp, new Email(user.personalData().email().get()));
-			return;
-		}
-
-		user.personalData().phone().map(Phone::new).ifPresent(phone -> phoneInteractionService.sendOTP(phone, otp));
 	}
 
 	public void verification(String receivedOTP) {
@@ -213,6 +209,17 @@ public class AuthService {
 		if (refreshToken == null)
 			throw responseException(Response.Status.BAD_REQUEST, "Refresh token can`t be null");
 
+		RefreshSession session = refreshTokens.get(refreshToken)
+				.orElseGet(() -> loadRefreshSession(refreshToken));
+
+		if (Instant.now().getEpochSecond() > session.expiresAt())
+			throw responseException(Response.Status.BAD_REQUEST, "Refresh token is expired, you need to login.");
+
+		String token = jwtUtility.generateToken(session.claims());
+		return new Token(token);
+	}
+
+	private RefreshSession loadRefreshSession(String refreshToken) {
 		RefreshToken foundedPairResult = userRepository.findRefreshToken(refreshToken)
 				.orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "This refresh token is not found."));
 
@@ -221,15 +228,11 @@ public class AuthService {
 						() -> responseException(Response.Status.BAD_REQUEST, "Something went wrong, try again later."))
 				.getExpirationTime();
 
-		var tokenExpiration = LocalDateTime.ofEpochSecond(tokenExpirationDate, 0, ZoneOffset.UTC);
-
-		if (LocalDateTime.now(ZoneOffset.UTC).isAfter(tokenExpiration))
-			throw responseException(Response.Status.BAD_REQUEST, "Refresh token is expired, you need to login.");
-
 		final User user = userRepository.findBy(foundedPairResult.userID()).orElseThrow();
 
-		String token = jwtUtility.generateToken(user);
-		return new Token(token);
+		RefreshSession session = new RefreshSession(user.id(), tokenExpirationDate, AccessClaims.from(user));
+		refreshTokens.put(refreshToken, session);
+		return session;
 	}
 
 	public Tokens twoFactorAuth(String receivedOTP) {
@@ -355,7 +358,9 @@ public class AuthService {
 				.orElseThrow(() -> responseException(Response.Status.INTERNAL_SERVER_ERROR,
 						"Unable to register your account at the moment. Please try again later."));
 
-		emailInteractionService.sendSoftVerificationMessage(email);
+		notificationRepository.enqueue(Notification.email(email,
+						EmailInteractionService.SOFT_VERIFICATION_SUBJECT, EmailInteractionService.SOFT_VERIFICATION_BODY))
+				.ifFailure(throwable -> Log.error("Can`t queue soft verification message.", throwable));
 		return user;
 	}
 
@@ -366,8 +371,9 @@ public class AuthService {
 	private void generateAndSendOTP(User user) {
 		OTP otp = OTP.of(user, hotpGenerator.generateHOTP(user.keyAndCounter().key(), user.keyAndCounter().counter()));
 
-		otpRepository.save(otp).orElseThrow(() -> responseException(Response.Status.INTERNAL_SERVER_ERROR,
-				"Unable to process your request at the moment. Please try again."));
+		otpRepository.save(otp, otpNotification(user, otp))
+				.orElseThrow(() -> responseException(Response.Status.INTERNAL_SERVER_ERROR,
+						"Unable to process your request at the moment. Please try again."));
 
 		user.incrementCounter();
 
@@ -376,13 +382,14 @@ public class AuthService {
 			return responseException(Response.Status.INTERNAL_SERVER_ERROR,
 					"Unable to process your request at the moment. Please try again.");
 		});
+	}
 
-		if (user.personalData().email().isPresent()) {
-			emailInteractionService.sendOTP(otp, new Email(user.personalData().email().get()));
-			return;
-		}
+	private static Notification otpNotification(User user, OTP otp) {
+		if (user.personalData().email().isPresent())
+			return Notification.email(new Email(user.personalData().email().get()),
+					EmailInteractionService.subject, EmailInteractionService.body.formatted(otp.otp()));
 
-		phoneInteractionService.sendOTP(new Phone(user.personalData().phone().orElseThrow()), otp);
+		return Notification.sms(new Phone(user.personalData().phone().orElseThrow()), otp.otp());
 	}
 
 	private Tokens generateTokens(User user) {
@@ -3,13 +3,9 @@ package org.project.application.service;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.core.Response;
 import org.project.application.dto.fleet.DriverDTO;
-import org.project.application.pagination.PageRequest;
+import org.project.domain.shared.value_objects.Pageable;
 import org.project.domain.fleet.repositories.DriverRepository;
-import org.project.domain.fleet.repositories.OwnerRepository;
-import org.project.domain.shared.value_objects.UserID;
-import org.project.domain.user.entities.User;
-import org.project.domain.user.factories.IdentifierFactory;
-import org.project.domain.user.repositories.UserRepository;
+import org.project.infrastructure.cache.DriverLeaderboard;
 
 import java.util.List;
 
@@ -18,24 +14,23 @@ import static org.project.application.util.RestUtil.responseException;
 @ApplicationScoped
 public class AvailableDriversService {
 
-    private final UserRepository userRepository;
-
-    private final OwnerRepository ownerRepository;
+    private final Principals principals;
 
     private final DriverRepository driverRepository;
 
-    AvailableDriversService(UserRepository userRepository, OwnerRepository ownerRepository, DriverRepository driverRepository) {
-        this.userRepository = userRepository;
-        this.ownerRepository = ownerRepository;
+    private final DriverLeaderboard leaderboard;
+
+    AvailableDriversService(Principals principals, DriverRepository driverRepository, DriverLeaderboard leaderboard) {
+        this.principals = principals;
         this.driverRepository = driverRepository;
+        this.leaderboard = leaderboard;
     }
 
-    public List<DriverDTO> page(String identifier, PageRequest pageRequest) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
-        if (!ownerRepository.isOwnerExists(new UserID(user.id())))
+    public List<DriverDTO> page(String identifier, Pageable pageRequest) {
+        if (!principals.owner(identifier).success())
             throw responseException(Response.Status.FORBIDDEN, "Owner account is not registered");
 
-        return driverRepository.page(pageRequest)
-                .orElseThrow(()  -> responseException(Response.Status.NOT_FOUND, "Cannot found available drivers"));
+        return leaderboard.page(pageRequest).orElseGet(() -> driverRepository.page(pageRequest)
+                .orElseThrow(()  -> responseException(Response.Status.NOT_FOUND, "Cannot found available drivers")));
     }
 }
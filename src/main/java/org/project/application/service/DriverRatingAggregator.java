@@ -0,0 +1,66 @@
+package org.project.application.service;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.domain.fleet.repositories.DriverRepository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically folds pending driver rating events into driver totals, {@code driver.rating.batch-size} events
+ * per statement, until none are left.
+ */
+@ApplicationScoped
+public class DriverRatingAggregator {
+
+    @ConfigProperty(name = "driver.rating.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "driver.rating.aggregation-interval-millis", defaultValue = "1000")
+    int intervalMillis;
+
+    private final DriverRepository driverRepository;
+
+    private ScheduledExecutorService scheduler;
+
+    DriverRatingAggregator(DriverRepository driverRepository) {
+        this.driverRepository = driverRepository;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-rating-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::aggregate, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    void aggregate() {
+        try {
+            while (true) {
+                var result = driverRepository.applyRatings(batchSize);
+                if (!result.success()) {
+                    Log.error("Can`t aggregate driver ratings.", result.throwable());
+                    return;
+                }
+
+                if (result.value().isEmpty())
+                    return;
+            }
+        } catch (RuntimeException e) {
+            Log.error("Can`t aggregate driver ratings.", e);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.project.application.service;
 
+import io.smallrye.mutiny.Multi;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.core.Response;
 import org.project.application.dto.fleet.CarDTO;
 import org.project.application.dto.ride.DriverRideForm;
 import org.project.application.dto.ride.RideDTO;
+import org.project.application.dto.ride.RideRequestEvent;
 import org.project.application.dto.ride.RideRequestToDriver;
+import org.project.application.pagination.PageRequest;
 import org.project.application.util.RestUtil;
 import org.project.domain.fleet.entities.Car;
 import org.project.domain.fleet.entities.Driver;
@@ -19,8 +22,8 @@ import org.project.domain.ride.repositories.RideRepository;
 import org.project.domain.ride.value_object.*;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.user.entities.User;
-import org.project.domain.user.factories.IdentifierFactory;
-import org.project.domain.user.repositories.UserRepository;
+import org.project.infrastructure.cache.PendingRidesIndex;
+import org.project.infrastructure.cache.RideRequestEvents;
 import org.project.infrastructure.cache.RideRequests;
 
 import java.util.Arrays;
@@ -35,9 +38,13 @@ public class DriverService {
 
     private final RideRequests rideRequests;
 
+    private final RideRequestEvents rideRequestEvents;
+
+    private final PendingRidesIndex pendingRides;
+
     private final CarRepository carRepository;
 
-    private final UserRepository userRepository;
+    private final Principals principals;
 
     private final RideRepository rideRepository;
 
@@ -45,21 +52,25 @@ public class DriverService {
 
     DriverService(
             RideRequests rideRequests,
+            RideRequestEvents rideRequestEvents,
+            PendingRidesIndex pendingRides,
             CarRepository carRepository,
             RideRepository rideRepository,
-            UserRepository userRepository,
+            Principals principals,
             DriverRepository driverRepository) {
 
         this.rideRequests = rideRequests;
+        this.rideRequestEvents = rideRequestEvents;
+        this.pendingRides = pendingRides;
         this.carRepository = carRepository;
         this.rideRepository = rideRepository;
-        this.userRepository = userRepository;
+        this.principals = principals;
         this.driverRepository = driverRepository;
     }
 
     public void register(String identifier, String driverLicense) {
         DriverLicense license = new DriverLicense(driverLicense);
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
 
         if (driverRepository.isDriverExists(new UserID(user.id())))
             throw responseException(Response.Status.CONFLICT, "Driver is already registered on this user account.");
@@ -74,10 +85,10 @@ public class DriverService {
     public void saveCar(String identifier, CarDTO carDTO) {
         required("carForm", carDTO);
 
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
         UserID userID = new UserID(user.id());
 
-        if (!driverRepository.isDriverExists(userID))
+        if (!principals.driver(identifier).success())
             throw responseException(Response.Status.NOT_FOUND, "Driver account is not found.");
 
         Car car = Car.of(
@@ -93,25 +104,29 @@ public class DriverService {
         carRepository.save(car).orElseThrow(RestUtil::unableToProcessRequestException);
     }
 
-    public List<RideRequestToDriver> rideRequests(String identifier) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
-        UserID userID = new UserID(user.id());
-        Driver driver = driverRepository.findBy(userID)
+    public List<RideRequestToDriver> rideRequests(String identifier, PageRequest pageRequest) {
+        Driver driver = principals.driver(identifier)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Driver account is not found."));
 
-        return rideRequests.pageOf(driver.id()).stream()
+        return rideRequests.pageOf(driver.id(), pageRequest).stream()
                 .map(RideRequestToDriver::from)
                 .toList();
     }
 
+    public Multi<RideRequestEvent> rideRequestStream(String identifier) {
+        Driver driver = principals.driver(identifier)
+                .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Driver account is not found."));
+
+        return rideRequestEvents.stream(driver.id());
+    }
+
     public RideDTO acceptRideRequest(String identifier, RideRequestID rideRequestID) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
-        UserID userID = new UserID(user.id());
-        Driver driver = driverRepository.findBy(userID)
+        Driver driver = principals.driver(identifier)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Driver account is not found."));
 
         RideRequest rideRequest = rideRequests.del(driver.id(), rideRequestID)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Ride request is not found."));
+        rideRequestEvents.accepted(driver.id(), rideRequestID);
 
         Car car = carRepository.findBy(rideRequest.licensePlate())
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Car is not found."));
@@ -127,6 +142,7 @@ public class DriverService {
                 rideRequest.rideRules()
         );
         rideRepository.save(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+        pendingRides.update(ride);
 
         return RideDTO.from(ride);
     }
@@ -134,15 +150,13 @@ public class DriverService {
     public RideDTO createRide(String identified, DriverRideForm rideForm) {
         required("rideForm", rideForm);
 
-        User user = userRepository.findBy(IdentifierFactory.from(identified)).orElseThrow();
-        UserID userID = new UserID(user.id());
-        Driver driver = driverRepository.findBy(userID)
+        Driver driver = principals.driver(identified)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Driver account is not found."));
 
         Car car = carRepository.findBy(new LicensePlate(rideForm.licensePlate()))
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Car by this driver account is not found."));
 
-        if (!car.owner().equals(userID))
+        if (!car.owner().equals(driver.userID()))
             throw responseException(Response.Status.FORBIDDEN, "You are not the owner of the car or license plate is wrong.");
 
         if (!car.isAvailableForTheTrip())
@@ -165,6 +179,8 @@ public class DriverService {
         driver.startedRide();
 
         rideRepository.save(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+
+        pendingRides.update(ride);
         carRepository.update(car).orElseThrow(RestUtil::unableToProcessRequestException);
         driverRepository.updateStatus(driver).orElseThrow(RestUtil::unableToProcessRequestException);
         return RideDTO.from(ride);
@@ -186,24 +202,25 @@ public class DriverService {
         Ride ride = validateAndRetrieveRide(identifier, rideUUID);
         ride.start();
         rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+        pendingRides.update(ride);
     }
 
     public void cancelRide(String identifier, UUID rideUUID) {
         Ride ride = validateAndRetrieveRide(identifier, rideUUID);
         ride.cancel();
         rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+        pendingRides.update(ride);
     }
 
     public void finishRide(String identifier, UUID rideUUID) {
         Ride ride = validateAndRetrieveRide(identifier, rideUUID);
         ride.finish();
         rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+        pendingRides.update(ride);
     }
 
     private Ride validateAndRetrieveRide(String identifier, UUID rideUUID) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
-        UserID userID = new UserID(user.id());
-        Driver driver = driverRepository.findBy(userID)
+        Driver driver = principals.driver(identifier)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Driver account is not found."));
 
         RideID rideID = new RideID(rideUUID);
@@ -29,8 +29,8 @@ import org.project.domain.ride.value_object.RideID;
 import org.project.domain.shared.value_objects.DriverID;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.user.entities.User;
-import org.project.domain.user.factories.IdentifierFactory;
-import org.project.domain.user.repositories.UserRepository;
+import org.project.infrastructure.cache.PendingRidesIndex;
+import org.project.infrastructure.cache.RideRequestEvents;
 import org.project.infrastructure.cache.RideRequests;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -41,9 +41,13 @@ public class OwnerService {
 
     private final RideRequests rideRequests;
 
+    private final RideRequestEvents rideRequestEvents;
+
+    private final PendingRidesIndex pendingRides;
+
     private final CarRepository carRepository;
 
-    private final UserRepository userRepository;
+    private final Principals principals;
 
     private final OwnerRepository ownerRepository;
 
@@ -53,13 +57,17 @@ public class OwnerService {
 
     OwnerService(
             RideRequests rideRequests,
-            UserRepository userRepository,
+            RideRequestEvents rideRequestEvents,
+            PendingRidesIndex pendingRides,
+            Principals principals,
             OwnerRepository ownerRepository,
             CarRepository carRepository,
 			DriverRepository driverRepository, RideRepository rideRepository) {
 
         this.rideRequests = rideRequests;
-        this.userRepository = userRepository;
+        this.rideRequestEvents = rideRequestEvents;
+        this.pendingRides = pendingRides;
+        this.principals = principals;
         this.ownerRepository = ownerRepository;
         this.carRepository = carRepository;
         this.driverRepository = driverRepository;
@@ -68,7 +76,7 @@ public class OwnerService {
 
     public void register(String identifier, String voenRaw) {
         Voen voen = new Voen(voenRaw);
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
         UserID userID = new UserID(user.id());
 
         if (ownerRepository.isOwnerExists(userID))
@@ -86,7 +94,7 @@ public class OwnerService {
     public void saveCar(String identifier, CarDTO carDTO) {
         required("carForm", carDTO);
 
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
         UserID userID = new UserID(user.id());
 
         if (ownerRepository.isOwnerExists(userID))
@@ -110,10 +118,7 @@ public class OwnerService {
     public void request(String identifier, RideRequestToDriver rideForm) {
         required("rideForm", rideForm);
 
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
-        UserID userID = new UserID(user.id());
-
-        Owner owner = ownerRepository.findBy(userID)
+        Owner owner = principals.owner(identifier)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Owner account is not found."));
 
         RideRequest rideRequest = rideForm.toRideRequest(owner.id());
@@ -121,7 +126,7 @@ public class OwnerService {
         Car car = carRepository.findBy(new LicensePlate(rideForm.licensePlate()))
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Car by this driver account is not found."));
 
-        if (!car.owner().equals(userID))
+        if (!car.owner().equals(owner.userID()))
             throw responseException(Response.Status.FORBIDDEN, "You are not the owner of the car or license plate is wrong.");
 
         if (!car.isAvailableForTheTrip())
@@ -134,6 +139,7 @@ public class OwnerService {
             throw responseException(Response.Status.CONFLICT, "Driver is not available.");
 
         rideRequests.put(driver.id(), rideRequest);
+        rideRequestEvents.created(driver.id(), rideRequest);
     }
 
 	public void addRideRule(String identifier, RideRule rideRule, UUID rideUUID) {
@@ -152,25 +158,25 @@ public class OwnerService {
 		Ride ride = validateAndRetrieveRide(identifier, rideUUID);
 		ride.start();
 		rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+		pendingRides.update(ride);
 	}
 
 	public void cancelRide(String identifier, UUID rideUUID) {
 		Ride ride = validateAndRetrieveRide(identifier, rideUUID);
 		ride.cancel();
 		rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+		pendingRides.update(ride);
 	}
 
 	public void finishRide(String identifier, UUID rideUUID) {
 		Ride ride = validateAndRetrieveRide(identifier, rideUUID);
 		ride.finish();
 		rideRepository.updateStatus(ride).orElseThrow(RestUtil::unableToProcessRequestException);
+		pendingRides.update(ride);
 	}
 
 	private Ride validateAndRetrieveRide(String identifier, UUID rideUUID) {
-	    User user = userRepository.findBy(IdentifierFactory.from(identifier))
-	            .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "User not found"));
-	    UserID userID = new UserID(user.id());
-		Owner owner = ownerRepository.findBy(userID)
+		Owner owner = principals.owner(identifier)
 				.orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Owner account is not found."));
 	    Ride ride = rideRepository.findBy(new RideID(rideUUID))
 	            .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "Ride is not found."));
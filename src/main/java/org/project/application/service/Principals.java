@@ -0,0 +1,117 @@
+package org.project.application.service;
+
+import jakarta.enterprise.context.RequestScoped;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.fleet.entities.Owner;
+import org.project.domain.fleet.repositories.DriverRepository;
+import org.project.domain.fleet.repositories.OwnerRepository;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.entities.User;
+import org.project.domain.user.factories.IdentifierFactory;
+import org.project.domain.user.repositories.UserRepository;
+import org.project.infrastructure.cache.PrincipalCache;
+
+import java.util.Optional;
+
+/**
+ * Resolves the user, driver and owner behind the current request at most once per request,
+ * consulting {@link PrincipalCache} before the repositories.
+ */
+@RequestScoped
+public class Principals {
+
+    private final PrincipalCache cache;
+
+    private final UserRepository userRepository;
+
+    private final DriverRepository driverRepository;
+
+    private final OwnerRepository ownerRepository;
+
+    private String identifier;
+
+    private User user;
+
+    private Driver driver;
+
+    private Owner owner;
+
+    Principals(
+            PrincipalCache cache,
+            UserRepository userRepository,
+            DriverRepository driverRepository,
+            OwnerRepository ownerRepository) {
+
+        this.cache = cache;
+        this.userRepository = userRepository;
+        this.driverRepository = driverRepository;
+        this.ownerRepository = ownerRepository;
+    }
+
+    public Result<User, Throwable> user(String identifier) {
+        if (user != null && identifier.equals(this.identifier))
+            return Result.success(user);
+
+        Optional<User> cached = cache.user(identifier);
+        if (cached.isPresent())
+            return remember(identifier, cached.get());
+
+        Result<User, Throwable> result = userRepository.findBy(IdentifierFactory.from(identifier));
+        if (!result.success())
+            return result;
+
+        cache.put(identifier, result.value());
+        return remember(identifier, result.value());
+    }
+
+    public Result<Driver, Throwable> driver(String identifier) {
+        Result<User, Throwable> userResult = user(identifier);
+        if (!userResult.success())
+            return Result.failure(userResult.throwable());
+
+        if (driver != null)
+            return Result.success(driver);
+
+        Optional<Driver> cached = cache.driver(user.userID());
+        if (cached.isPresent())
+            return Result.success(driver = cached.get());
+
+        Result<Driver, Throwable> result = driverRepository.findBy(user.userID());
+        if (!result.success())
+            return result;
+
+        cache.put(result.value());
+        return Result.success(driver = result.value());
+    }
+
+    public Result<Owner, Throwable> owner(String identifier) {
+        Result<User, Throwable> userResult = user(identifier);
+        if (!userResult.success())
+            return Result.failure(userResult.throwable());
+
+        if (owner != null)
+            return Result.success(owner);
+
+        Optional<Owner> cached = cache.owner(user.userID());
+        if (cached.isPresent())
+            return Result.success(owner = cached.get());
+
+        Result<Owner, Throwable> result = ownerRepository.findBy(user.userID());
+        if (!result.success())
+            return result;
+
+        cache.put(result.value());
+        return Result.success(owner = result.value());
+    }
+
+    private Result<User, Throwable> remember(String identifier, User user) {
+        if (!identifier.equals(this.identifier)) {
+            this.driver = null;
+            this.owner = null;
+        }
+
+        this.identifier = identifier;
+        this.user = user;
+        return Result.success(user);
+    }
+}
@@ -7,8 +7,6 @@ import org.project.domain.fleet.repositories.CarRepository;
 import org.project.domain.shared.value_objects.Pageable;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.user.entities.User;
-import org.project.domain.user.factories.IdentifierFactory;
-import org.project.domain.user.repositories.UserRepository;
 
 import java.util.List;
 
@@ -19,15 +17,15 @@ public class RegisteredCarsService {
 
     private final CarRepository carRepository;
 
-    private final UserRepository userRepository;
+    private final Principals principals;
 
-    RegisteredCarsService(CarRepository carRepository, UserRepository userRepository) {
+    RegisteredCarsService(CarRepository carRepository, Principals principals) {
         this.carRepository = carRepository;
-        this.userRepository = userRepository;
+        this.principals = principals;
     }
 
     public List<CarDTO> registeredCars(String identifier, Pageable page) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
         return carRepository.pageOf(page, new UserID(user.id()))
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "No found cars"));
     }
@@ -5,25 +5,31 @@ import jakarta.ws.rs.core.Response;
 import org.project.application.dto.ride.BookingForm;
 import org.project.application.dto.ride.RideContractDTO;
 import org.project.application.util.RestUtil;
-import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.repositories.DriverRepository;
+import org.project.domain.fleet.value_objects.DriverRatingEvent;
 import org.project.domain.ride.entities.Ride;
 import org.project.domain.ride.entities.RideContract;
 import org.project.domain.ride.repositories.RideContractRepository;
 import org.project.domain.ride.repositories.RideRepository;
 import org.project.domain.ride.value_object.BookedSeats;
 import org.project.domain.ride.value_object.RideID;
+import org.project.domain.shared.value_objects.DriverID;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.user.entities.User;
-import org.project.domain.user.factories.IdentifierFactory;
-import org.project.domain.user.repositories.UserRepository;
+import org.project.infrastructure.cache.PendingRidesIndex;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.project.application.util.RestUtil.*;
 
 @ApplicationScoped
 public class RideReservationService {
 
-    private final UserRepository userRepository;
+    static final int MAX_BOOKING_ATTEMPTS = 8;
+
+    private final Principals principals;
 
     private final RideRepository rideRepository;
 
@@ -31,36 +37,50 @@ public class RideReservationService {
 
     private final RideContractRepository rideContractRepository;
 
+    private final PendingRidesIndex pendingRides;
+
     RideReservationService(
-            UserRepository userRepository,
+            Principals principals,
             RideRepository rideRepository,
             DriverRepository driverRepository,
-            RideContractRepository rideContractRepository) {
+            RideContractRepository rideContractRepository,
+            PendingRidesIndex pendingRides) {
 
-        this.userRepository = userRepository;
+        this.principals = principals;
         this.rideRepository = rideRepository;
         this.driverRepository = driverRepository;
         this.rideContractRepository = rideContractRepository;
+        this.pendingRides = pendingRides;
     }
 
     public RideContractDTO book(String identifier, BookingForm bookingForm) {
         required("bookingForm", bookingForm);
 
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
 
         RideID rideID = new RideID(bookingForm.rideID());
-        Ride ride = rideRepository.findBy(rideID)
-                .orElseThrow(() -> responseException(Response.Status.BAD_REQUEST, "This ride do not exists."));
+        BookedSeats bookedSeats = new BookedSeats(bookingForm.bookedSeats());
+
+        for (int attempt = 1; attempt <= MAX_BOOKING_ATTEMPTS; attempt++) {
+            Ride ride = rideRepository.findBy(rideID)
+                    .orElseThrow(() -> responseException(Response.Status.BAD_REQUEST, "This ride do not exists."));
 
-        RideContract rideContract = ride.book(new UserID(user.id()), new BookedSeats(bookingForm.bookedSeats()));
+            RideContract rideContract = ride.book(new UserID(user.id()), bookedSeats);
 
-        rideContractRepository.save(rideContract).orElseThrow(RestUtil::unableToProcessRequestException);
-        rideRepository.updateSeats(ride).orElseThrow(RestUtil::unableToProcessRequestException);
-        return RideContractDTO.from(rideContract);
+            int booked = rideRepository.book(ride, rideContract).orElseThrow(RestUtil::unableToProcessRequestException);
+            if (booked == 1) {
+                pendingRides.update(ride);
+                return RideContractDTO.from(rideContract);
+            }
+
+            backoff(attempt);
+        }
+
+        throw responseException(Response.Status.CONFLICT, "Ride is being booked by other passengers, please try again.");
     }
 
     public void rateDriver(String identifier, RideID rideID, int score) {
-        User user = userRepository.findBy(IdentifierFactory.from(identifier)).orElseThrow();
+        User user = principals.user(identifier).orElseThrow();
         Ride ride = rideRepository.findBy(rideID)
                 .orElseThrow(() -> responseException(Response.Status.NOT_FOUND, "This ride do not exists."));
 
@@ -70,13 +90,24 @@ public class RideReservationService {
         if (!rideContractRepository.isExists(new UserID(user.id()), ride.id()))
             throw responseException(Response.Status.FORBIDDEN, "You were`t a part of this ride");
 
-        Driver driver = driverRepository.findBy(ride.rideOwner().driverID()).orElseThrow(RestUtil::unableToProcessRequestException);
-
-        boolean selfRating = driver.id().value().equals(user.id());
+        DriverID driverID = ride.rideOwner().driverID();
+        boolean selfRating = principals.driver(identifier)
+                .mapSuccess(driver -> driver.id().equals(driverID))
+                .orElse(false);
         if (selfRating)
             throw responseException(Response.Status.BAD_REQUEST, "You cannot rate yourself");
 
-        driver.rate(score);
-        driverRepository.updateRating(driver).orElseThrow(RestUtil::unableToProcessRequestException);
+        DriverRatingEvent rating = DriverRatingEvent.of(driverID, ride.id(), new UserID(user.id()), score);
+        int saved = driverRepository.saveRating(rating).orElseThrow(RestUtil::unableToProcessRequestException);
+        if (saved == 0)
+            throw responseException(Response.Status.CONFLICT, "You have already rated the driver of this ride.");
+    }
+
+    /**
+     * Randomized exponential pause so that passengers competing for the same ride do not retry in lockstep.
+     */
+    private static void backoff(int attempt) {
+        long maxNanos = TimeUnit.MILLISECONDS.toNanos(1L << Math.min(attempt, 6));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(maxNanos));
     }
 }
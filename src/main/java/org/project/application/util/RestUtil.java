@@ -1,6 +1,8 @@
 package org.project.application.util;
 
 import org.project.application.dto.common.ErrorMessage;
+import org.project.application.pagination.CursorRequest;
+import org.project.domain.shared.value_objects.Pageable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,8 +12,13 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
+import java.util.List;
+import java.util.function.Function;
+
 public class RestUtil {
 
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	private static final ObjectMapper objectMapper = new ObjectMapper();
 
 	private RestUtil() {
@@ -36,6 +43,15 @@ public class RestUtil {
 		return field;
 	}
 
+	/**
+	 * @return the page as the response body, with the cursor to the next page in {@value #NEXT_CURSOR_HEADER}
+	 */
+	public static <T> Response page(List<T> page, Pageable request, Function<T, List<?>> key) {
+		Response.ResponseBuilder response = Response.ok(page);
+		CursorRequest.next(page, request, key).ifPresent(cursor -> response.header(NEXT_CURSOR_HEADER, cursor));
+		return response.build();
+	}
+
 	public static WebApplicationException unableToProcessRequestException() {
 		return responseException(Response.Status.INTERNAL_SERVER_ERROR,
 				"Unable to process your request at the moment. Please try again.");
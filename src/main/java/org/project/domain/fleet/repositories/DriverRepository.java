@@ -1,10 +1,11 @@
 package org.project.domain.fleet.repositories;
 
 import org.project.application.dto.fleet.DriverDTO;
-import org.project.application.pagination.PageRequest;
 import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.value_objects.DriverLicense;
+import org.project.domain.fleet.value_objects.DriverRatingEvent;
 import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.Pageable;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.shared.containers.Result;
 
@@ -22,11 +23,27 @@ public interface DriverRepository {
 
     Result<Integer, Throwable> updateRating(Driver driver);
 
+    /**
+     * Appends the rating event unless the passenger already rated this ride.
+     *
+     * @return 1 if stored, 0 if it was a duplicate
+     */
+    Result<Integer, Throwable> saveRating(DriverRatingEvent rating);
+
+    /**
+     * Folds up to {@code limit} pending rating events into the drivers' totals.
+     *
+     * @return drivers whose rating changed
+     */
+    Result<List<Driver>, Throwable> applyRatings(int limit);
+
     Result<Driver, Throwable> findBy(DriverID driverID);
 
     Result<Driver, Throwable> findBy(UserID userID);
 
-    Result<List<DriverDTO>, Throwable> page(PageRequest page);
+    Result<List<DriverDTO>, Throwable> page(Pageable page);
+
+    Result<List<Driver>, Throwable> topAvailable(int limit);
 
     boolean isLicenseExists(DriverLicense license);
 
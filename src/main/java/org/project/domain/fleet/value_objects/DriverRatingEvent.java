@@ -0,0 +1,32 @@
+package org.project.domain.fleet.value_objects;
+
+import org.project.domain.ride.value_object.RideID;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
+import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.UserID;
+
+import java.time.LocalDateTime;
+
+import static org.project.domain.shared.util.Utils.required;
+
+/**
+ * A single passenger score for the driver of a finished ride. Events are appended once per passenger and ride,
+ * and folded into the driver's {@link Rated} totals later.
+ */
+public record DriverRatingEvent(DriverID driverID, RideID rideID, UserID userID, int score, LocalDateTime createdAt) {
+    public DriverRatingEvent {
+        required("driverID", driverID);
+        required("rideID", rideID);
+        required("userID", userID);
+        required("createdAt", createdAt);
+
+        if (score < 1)
+            throw new IllegalDomainArgumentException("Rate should not be bellow 1");
+        if (score > 5)
+            throw new IllegalDomainArgumentException("Rate should be less than 5");
+    }
+
+    public static DriverRatingEvent of(DriverID driverID, RideID rideID, UserID userID, int score) {
+        return new DriverRatingEvent(driverID, rideID, userID, score, LocalDateTime.now());
+    }
+}
@@ -31,6 +31,7 @@ public class Ride {
   private final Dates dates;
   private final boolean hasActiveContract;
   private Fee fee;
+  private final long version;
 
   private Ride(
           RideID id,
@@ -45,7 +46,8 @@ public class Ride {
           Set<RideRule> rideRules,
           Dates dates,
           boolean hasActiveContract,
-          Fee fee) {
+          Fee fee,
+          long version) {
 
     this.id = id;
     this.carID = carID;
@@ -60,6 +62,7 @@ public class Ride {
     this.dates = dates;
     this.hasActiveContract = hasActiveContract;
     this.fee = fee;
+    this.version = version;
   }
 
   public static Ride of(
@@ -84,7 +87,7 @@ public class Ride {
       throw new IllegalDomainArgumentException("Too many rules for ride, don't be so boring");
 
     return new Ride(RideID.newID(), carID, rideOwner, route, rideTime, price,
-            seatMap, RideStatus.PENDING, rideDesc, rideRules, Dates.defaultDates(), false, Fee.zero());
+            seatMap, RideStatus.PENDING, rideDesc, rideRules, Dates.defaultDates(), false, Fee.zero(), 0L);
   }
 
   public static Ride fromRepository(
@@ -100,9 +103,10 @@ public class Ride {
           Set<RideRule> rideRules,
           Dates dates,
           boolean hasActiveContract,
-          Fee fee) {
+          Fee fee,
+          long version) {
 
-    return new Ride(id, carID, rideOwner, route, rideTime, price, seatMap, status, rideDesc, rideRules, dates, hasActiveContract, fee);
+    return new Ride(id, carID, rideOwner, route, rideTime, price, seatMap, status, rideDesc, rideRules, dates, hasActiveContract, fee, version);
   }
 
   public RideID id() {
@@ -137,10 +141,10 @@ public class Ride {
     if (this.status != RideStatus.PENDING)
       throw new IllegalDomainArgumentException("Cannot add passenger when ride is already on the road");
 
-    SeatMap newSeatsState = null;
+    SeatMap newSeatsState = seatMap;
     BigDecimal total = BigDecimal.ZERO;
     for (PassengerSeat bookedSeat : bookedSeats.bookedSeats()) {
-      newSeatsState = seatMap.occupy(bookedSeat.index(), bookedSeat.status());
+      newSeatsState = newSeatsState.occupy(bookedSeat.index(), bookedSeat.status());
       total = total.add(price.amount());
     }
 
@@ -149,6 +153,13 @@ public class Ride {
     return RideContract.of(userID, id, price, bookedSeats);
   }
 
+  /**
+   * Version of the persisted row this ride was loaded from, used for optimistic locking.
+   */
+  public long version() {
+    return version;
+  }
+
   public RideStatus status() {
     return status;
   }
@@ -0,0 +1,17 @@
+package org.project.domain.ride.exceptions;
+
+import org.project.domain.shared.exceptions.DomainException;
+
+public class SeatConflictException extends DomainException {
+    public SeatConflictException(String msg) {
+        super(msg);
+    }
+
+    public SeatConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public SeatConflictException(Throwable cause) {
+        super(cause);
+    }
+}
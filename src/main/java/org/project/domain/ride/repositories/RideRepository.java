@@ -2,8 +2,10 @@ package org.project.domain.ride.repositories;
 
 import org.project.application.dto.ride.RideDTO;
 import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.entities.RideContract;
 import org.project.domain.ride.value_object.Location;
 import org.project.domain.ride.value_object.RideID;
+import org.project.domain.ride.value_object.SearchRadius;
 import org.project.domain.shared.containers.Result;
 import org.project.domain.shared.value_objects.DriverID;
 import org.project.domain.shared.value_objects.OwnerID;
@@ -19,6 +21,14 @@ public interface RideRepository {
 
     Result<Integer, Throwable> updateSeats(Ride ride);
 
+    /**
+     * Atomically stores the ride's new seat state and the contract, provided the ride row still has
+     * {@link Ride#version()}.
+     *
+     * @return 1 on success, 0 if the ride was modified concurrently and nothing was written
+     */
+    Result<Integer, Throwable> book(Ride ride, RideContract rideContract);
+
     Result<Integer, Throwable> updateStatus(Ride ride);
 
     Result<Integer, Throwable> updateRules(Ride ride);
@@ -33,5 +43,7 @@ public interface RideRepository {
 
     Result<List<RideDTO>, Throwable> pageOf(LocalDate localDate, Pageable page);
 
-    Result<List<RideDTO>, Throwable> actualFor(Location startPoint, Location destination, LocalDate date, Pageable page);
+    Result<List<RideDTO>, Throwable> actualFor(Location startPoint, Location destination, SearchRadius radius, LocalDate date, Pageable page);
+
+    Result<List<Ride>, Throwable> upcoming(int limit);
 }
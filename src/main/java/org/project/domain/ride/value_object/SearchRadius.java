@@ -0,0 +1,20 @@
+package org.project.domain.ride.value_object;
+
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
+
+public record SearchRadius(double kilometres) {
+  public static final double DEFAULT_KILOMETRES = 25.0;
+  public static final double MAX_KILOMETRES = 500.0;
+
+  public SearchRadius {
+    if (Double.isNaN(kilometres) || kilometres <= 0)
+      throw new IllegalDomainArgumentException("Search radius must be positive");
+
+    if (kilometres > MAX_KILOMETRES)
+      throw new IllegalDomainArgumentException("Search radius cannot exceed " + MAX_KILOMETRES + " km");
+  }
+
+  public static SearchRadius defaultRadius() {
+    return new SearchRadius(DEFAULT_KILOMETRES);
+  }
+}
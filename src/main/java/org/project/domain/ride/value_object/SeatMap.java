@@ -4,15 +4,26 @@ import static org.project.domain.shared.util.Utils.required;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Arrays;
 import java.util.Objects;
 
 import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.exceptions.SeatConflictException;
 import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
 
-public record SeatMap(SeatStatus[][] seats) {
+/**
+ * Seat layout of a ride, stored row by row as one bit per seat in a {@code long} mask per occupant kind.
+ * Seat {@code 0} is always the driver; a seat without any occupant bit is empty.
+ */
+public final class SeatMap {
+  private static final long DRIVER_SEAT = 1L;
 
-  public SeatMap {
+  private final int rows;
+  private final int columns;
+  private final long male;
+  private final long female;
+  private final long child;
+
+  public SeatMap(SeatStatus[][] seats) {
     required("seats", seats);
     if (seats.length == 0 || seats[0].length == 0)
       throw new IllegalDomainArgumentException("Seat matrix cannot be empty");
@@ -20,13 +31,16 @@ public record SeatMap(SeatStatus[][] seats) {
     if (seats[0][0] != SeatStatus.DRIVER)
       throw new IllegalDomainArgumentException("Seat matrix must start with driver");
 
-    int totalSeats = 1;
+    int totalSeats = 0;
     boolean isFirstSeat = true;
 
     for (SeatStatus[] row : seats) {
       if (row.length > 4)
         throw new IllegalDomainArgumentException("Seat matrix contains more than 4 rows");
 
+      if (row.length != seats[0].length)
+        throw new IllegalDomainArgumentException("All rows of seat matrix must have the same length");
+
       for (SeatStatus seat : row) {
         required("seat", seat);
         totalSeats++;
@@ -46,36 +60,77 @@ public record SeatMap(SeatStatus[][] seats) {
 
     if (totalSeats < 2)
       throw new IllegalDomainArgumentException("Invalid seats count: min 2, max 64");
+
+    long male = 0L, female = 0L, child = 0L;
+    int index = 0;
+    for (SeatStatus[] row : seats) {
+      for (SeatStatus seat : row) {
+        long bit = 1L << index++;
+        switch (seat) {
+          case MALE_OCCUPIED -> male |= bit;
+          case FEMALE_OCCUPIED -> female |= bit;
+          case CHILD_OCCUPIED -> child |= bit;
+          default -> { }
+        }
+      }
+    }
+
+    this.rows = seats.length;
+    this.columns = seats[0].length;
+    this.male = male;
+    this.female = female;
+    this.child = child;
+  }
+
+  private SeatMap(int rows, int columns, long male, long female, long child) {
+    this.rows = rows;
+    this.columns = columns;
+    this.male = male;
+    this.female = female;
+    this.child = child;
   }
 
   public static SeatMap ofEmpty(int rows, int cols) {
     validateRowsAndColumns(rows, cols);
+    return new SeatMap(rows, cols, 0L, 0L, 0L);
+  }
 
-    SeatStatus[][] matrix = new SeatStatus[rows][cols];
-    matrix[0][0] = SeatStatus.DRIVER;
+  /**
+   * Restores a seat map from its dimensions and occupant masks, as returned by {@link #maleSeats()},
+   * {@link #femaleSeats()} and {@link #childSeats()}.
+   */
+  public static SeatMap of(int rows, int cols, long maleSeats, long femaleSeats, long childSeats) {
+    validateRowsAndColumns(rows, cols);
+    SeatMap seatMap = new SeatMap(rows, cols, maleSeats, femaleSeats, childSeats);
 
-    for (int i = 0; i < rows; i++) {
-      for (int j = 0; j < cols; j++) {
-        if (i == 0 && j == 0) continue;
-        matrix[i][j] = SeatStatus.EMPTY;
-      }
-    }
+    long outside = ~seatMap.allSeatsMask() | DRIVER_SEAT;
+    if (((maleSeats | femaleSeats | childSeats) & outside) != 0)
+      throw new IllegalDomainArgumentException("Occupied seats must be passenger seats within the seat matrix");
 
-    return new SeatMap(matrix);
+    if ((maleSeats & femaleSeats) != 0 || (maleSeats & childSeats) != 0 || (femaleSeats & childSeats) != 0)
+      throw new IllegalDomainArgumentException("Seat cannot be occupied by more than one passenger");
+
+    return seatMap;
   }
 
+  /**
+   * @return a fresh matrix representation, as used by forms and persistence
+   */
   public SeatStatus[][] seats() {
-    SeatStatus[][] copy = new SeatStatus[seats.length][];
-    for (int i = 0; i < seats.length; i++) {
-      copy[i] = Arrays.copyOf(seats[i], seats[i].length);
+    SeatStatus[][] matrix = new SeatStatus[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        matrix[i][j] = statusAt(i * columns + j);
+      }
     }
-    return copy;
+    return matrix;
   }
 
   public List<SeatStatus> seatsList() {
-    List<SeatStatus> allSeats = new ArrayList<>();
-    for (SeatStatus[] row : seats) {
-      allSeats.addAll(Arrays.asList(row));
+    int total = totalSeats();
+    List<SeatStatus> allSeats = new ArrayList<>(total);
+    for (int i = 0; i < total; i++) {
+      allSeats.add(statusAt(i));
     }
     return allSeats;
   }
@@ -84,18 +139,14 @@ public record SeatMap(SeatStatus[][] seats) {
     if (index < 0 || index >= totalSeats())
       throw new IllegalDomainArgumentException("Invalid seat index: " + index);
 
-    int row = index / seats[0].length;
-    int col = index % seats[0].length;
-    return seats[row][col];
+    return statusAt(index);
   }
 
   public boolean isAvailable(int index) {
     if (index < 0 || index >= totalSeats())
       return false;
 
-    int row = index / seats[0].length;
-    int col = index % seats[0].length;
-    return seats[row][col] == SeatStatus.EMPTY;
+    return (emptyMask() & (1L << index)) != 0;
   }
 
   public SeatMap occupy(int index, SeatStatus occupantStatus) {
@@ -107,107 +158,110 @@ public record SeatMap(SeatStatus[][] seats) {
       throw new IllegalDomainArgumentException("Seat must be occupied with valid occupant");
 
     if (!isAvailable(index))
-      throw new IllegalDomainArgumentException("Seat is already occupied");
-
-    return updateStatus(index, occupantStatus);
+      throw new SeatConflictException("Seat is already occupied: " + index);
+
+    long bit = 1L << index;
+    return switch (occupantStatus) {
+      case MALE_OCCUPIED -> new SeatMap(rows, columns, male | bit, female, child);
+      case FEMALE_OCCUPIED -> new SeatMap(rows, columns, male, female | bit, child);
+      default -> new SeatMap(rows, columns, male, female, child | bit);
+    };
   }
 
   public int size() {
     return totalSeats();
   }
 
-  private int totalSeats() {
-    int count = 0;
-    for (SeatStatus[] row : seats) {
-      count += row.length;
+  public List<Integer> occupiedIndexes() {
+    long occupied = occupiedMask();
+    List<Integer> indexes = new ArrayList<>(Long.bitCount(occupied));
+    while (occupied != 0) {
+      indexes.add(Long.numberOfTrailingZeros(occupied));
+      occupied &= occupied - 1;
     }
-    return count;
+    return indexes;
   }
 
-  public List<Integer> occupiedIndexes() {
-    List<Integer> occupied = new ArrayList<>();
-    int currentIndex = 0;
+  public boolean hasAvailableSeats() {
+    return emptyMask() != 0;
+  }
 
-    for (SeatStatus[] row : seats) {
-      for (SeatStatus seat : row) {
-        if (seat.isOccupied()) {
-          occupied.add(currentIndex);
-        }
-        currentIndex++;
-      }
-    }
-    return occupied;
+  public long maleSeats() {
+    return male;
   }
 
-  public boolean hasAvailableSeats() {
-    for (SeatStatus[] row : seats) {
-      for (SeatStatus seat : row) {
-        if (seat == SeatStatus.EMPTY) {
-          return true;
-        }
-      }
-    }
-    return false;
+  public long femaleSeats() {
+    return female;
+  }
+
+  public long childSeats() {
+    return child;
   }
 
   public int rowCount() {
-    return seats.length;
+    return rows;
   }
 
   public int columnCount() {
-    return seats.length > 0 ? seats[0].length : 0;
+    return columns;
   }
 
   public SeatStatus status(int row, int col) {
-    if (row < 0 || row >= seats.length || col < 0 || col >= seats[row].length)
+    if (row < 0 || row >= rows || col < 0 || col >= columns)
       throw new IllegalDomainArgumentException("Invalid seat coordinates: [" + row + "][" + col + "]");
-    return seats[row][col];
+    return statusAt(row * columns + col);
   }
 
-  private static void validateRowsAndColumns(int rows, int cols) {
-    if (rows < 1 || cols < 1 || rows * cols < 2 || rows * cols > 64)
-      throw new IllegalDomainArgumentException("Total seats must be between 2 and 64");
+  private int totalSeats() {
+    return rows * columns;
   }
 
-  private SeatMap updateStatus(int index, SeatStatus newStatus) {
-    required("newStatus", newStatus);
-    if (index < 0 || index >= totalSeats())
-      throw new IllegalDomainArgumentException("Invalid seat index: " + index);
-
-    if (index == 0 && newStatus != SeatStatus.DRIVER)
-      throw new IllegalDomainArgumentException("First seat must always be for the driver");
+  private long allSeatsMask() {
+    int total = totalSeats();
+    return total == Long.SIZE ? -1L : (1L << total) - 1;
+  }
 
-    if (index != 0 && newStatus == SeatStatus.DRIVER)
-      throw new IllegalDomainArgumentException("There can be only one driver");
+  private long occupiedMask() {
+    return male | female | child;
+  }
 
-    SeatStatus[][] newMatrix = new SeatStatus[seats.length][];
-    for (int i = 0; i < seats.length; i++) {
-      newMatrix[i] = Arrays.copyOf(seats[i], seats[i].length);
-    }
+  private long emptyMask() {
+    return allSeatsMask() & ~(DRIVER_SEAT | occupiedMask());
+  }
 
-    int row = index / seats[0].length;
-    int col = index % seats[0].length;
-    newMatrix[row][col] = newStatus;
+  private SeatStatus statusAt(int index) {
+    long bit = 1L << index;
+    if (bit == DRIVER_SEAT) return SeatStatus.DRIVER;
+    if ((male & bit) != 0) return SeatStatus.MALE_OCCUPIED;
+    if ((female & bit) != 0) return SeatStatus.FEMALE_OCCUPIED;
+    if ((child & bit) != 0) return SeatStatus.CHILD_OCCUPIED;
+    return SeatStatus.EMPTY;
+  }
 
-    return new SeatMap(newMatrix);
+  private static void validateRowsAndColumns(int rows, int cols) {
+    if (rows < 1 || cols < 1 || rows * cols < 2 || rows * cols > 64)
+      throw new IllegalDomainArgumentException("Total seats must be between 2 and 64");
   }
 
   @Override
   public boolean equals(Object o) {
     if (o == null || getClass() != o.getClass()) return false;
     SeatMap seatMap = (SeatMap) o;
-    return Objects.deepEquals(seats, seatMap.seats);
+    return rows == seatMap.rows && columns == seatMap.columns
+            && male == seatMap.male && female == seatMap.female && child == seatMap.child;
   }
 
   @Override
   public int hashCode() {
-    return Arrays.deepHashCode(seats);
+    return Objects.hash(rows, columns, male, female, child);
   }
 
   @Override
   public String toString() {
     return "SeatMap{" +
-            "seats=" + Arrays.toString(seats) +
+            "rows=" + rows +
+            ", columns=" + columns +
+            ", seats=" + seatsList() +
             '}';
   }
-}
\ No newline at end of file
+}
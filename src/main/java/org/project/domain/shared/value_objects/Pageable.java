@@ -1,7 +1,18 @@
 package org.project.domain.shared.value_objects;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface Pageable {
   int limit();
 
   int offset();
+
+  /**
+   * @return sort key of the last element of the previous page, one value per ordering column, when paging by cursor
+   * instead of offset
+   */
+  default Optional<List<String>> after() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,26 @@
+package org.project.domain.user.repositories;
+
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.value_objects.Notification;
+import org.project.domain.user.value_objects.QueuedNotification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationRepository {
+
+    Result<Integer, Throwable> enqueue(Notification notification);
+
+    /**
+     * Leases up to {@code limit} due notifications for {@code leaseSeconds}; other workers skip them until the lease
+     * runs out, so a notification whose worker died is delivered again later.
+     */
+    Result<List<QueuedNotification>, Throwable> claim(int limit, int leaseSeconds);
+
+    Result<Integer, Throwable> remove(List<UUID> ids);
+
+    Result<Integer, Throwable> retry(UUID id, int attempts, LocalDateTime nextAttemptAt, String error);
+
+    Result<Integer, Throwable> fail(UUID id, int attempts, String error);
+}
@@ -2,6 +2,7 @@ package org.project.domain.user.repositories;
 
 import org.project.domain.shared.containers.Result;
 import org.project.domain.user.entities.OTP;
+import org.project.domain.user.value_objects.Notification;
 
 import java.util.UUID;
 
@@ -9,6 +10,11 @@ public interface OTPRepository {
 
     Result<Integer, Throwable> save(OTP otp);
 
+    /**
+     * Saves the OTP together with the notification delivering it, atomically.
+     */
+    Result<Integer, Throwable> save(OTP otp, Notification notification);
+
     Result<Integer, Throwable> updateConfirmation(OTP otp);
 
     Result<Integer, Throwable> remove(OTP otp);
@@ -0,0 +1,32 @@
+package org.project.domain.user.value_objects;
+
+import java.util.UUID;
+
+import static org.project.domain.shared.util.Utils.required;
+
+/**
+ * A message to a user, queued for delivery over email or SMS.
+ */
+public record Notification(UUID id, Channel channel, String recipient, String subject, String body) {
+
+    public enum Channel {
+        EMAIL,
+        SMS
+    }
+
+    public Notification {
+        required("id", id);
+        required("channel", channel);
+        required("recipient", recipient);
+        required("subject", subject);
+        required("body", body);
+    }
+
+    public static Notification email(Email email, String subject, String body) {
+        return new Notification(UUID.randomUUID(), Channel.EMAIL, email.email(), subject, body);
+    }
+
+    public static Notification sms(Phone phone, String body) {
+        return new Notification(UUID.randomUUID(), Channel.SMS, phone.phoneNumber(), "", body);
+    }
+}
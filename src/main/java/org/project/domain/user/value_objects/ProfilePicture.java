@@ -6,16 +6,12 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
-import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
-import org.project.domain.user.entities.User;
-
 public final class ProfilePicture {
   private final String path;
   private final String imageType;
   private final byte[] profilePicture;
 
   public static final int MAX_SIZE = 2_097_152;
-  public static final String PATH_FORMAT = "src/main/resources/static/profile/photos/%s";
   public static final String DEFAULT_PROFILE_PICTURE_PATH = "src/main/resources/static/profile/photos/default-profile-picture.png";
 
   private static final byte[][] IMAGE_SIGNATURES = {
@@ -27,31 +23,21 @@ public final class ProfilePicture {
 
   private static final String[] IMAGE_EXTENSIONS = { "jpeg", "png" };
 
+  /**
+   * Leading bytes enough to recognize any supported image type.
+   */
+  public static final int SIGNATURE_LENGTH = 4;
+
   private ProfilePicture(String path, byte[] profilePicture, String imageType) {
     this.path = path;
     this.profilePicture = profilePicture.clone();
     this.imageType = imageType;
   }
 
-  public static ProfilePicture of(byte[] profilePicture, User user) {
-    required("profilePicture", profilePicture);
-    required("user", user);
-
-    String path = profilePicturePath(user);
-    String typeOfImage = validate(profilePicture)
-        .orElseThrow(() -> new IllegalDomainArgumentException("Invalid profile picture type."));
-
-    return new ProfilePicture(path, profilePicture, typeOfImage);
-  }
-
   public static ProfilePicture fromRepository(String path, byte[] profilePicture) {
     return new ProfilePicture(path, profilePicture, checkImageExtension(profilePicture).orElseThrow());
   }
 
-  public static String profilePicturePath(User user) {
-    return String.format(PATH_FORMAT, user.id().toString());
-  }
-
   public String path() {
     return path;
   }
@@ -64,13 +50,13 @@ public final class ProfilePicture {
     return imageType;
   }
 
-  private static Optional<String> validate(byte[] profilePicture) {
-    required("profilePicture", profilePicture);
-
-    if (profilePicture.length > MAX_SIZE)
-      return Optional.empty();
-
-    return checkImageExtension(profilePicture);
+  /**
+   * @param head the leading bytes of a picture, at least {@link #SIGNATURE_LENGTH} of them if available
+   * @return the image type the bytes start with, if supported
+   */
+  public static Optional<String> imageTypeOf(byte[] head) {
+    required("head", head);
+    return checkImageExtension(head);
   }
 
   private static Optional<String> checkImageExtension(byte[] profilePicture) {
@@ -0,0 +1,12 @@
+package org.project.domain.user.value_objects;
+
+import static org.project.domain.shared.util.Utils.required;
+
+/**
+ * A notification claimed from the outbox, with the number of delivery attempts already made.
+ */
+public record QueuedNotification(Notification notification, int attempts) {
+    public QueuedNotification {
+        required("notification", notification);
+    }
+}
@@ -0,0 +1,178 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.application.dto.fleet.DriverDTO;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.fleet.repositories.DriverRepository;
+import org.project.domain.shared.value_objects.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory top of the available drivers ranking, used to answer the first pages of {@code /available/drivers}
+ * without touching the database.
+ * <p>
+ * Drivers are ordered the way the repository pages them: by average rating, then newest first, then by id. The board
+ * always holds an exact prefix of that ranking, at most {@code driver.leaderboard.size} long. The repository reports
+ * every driver write through {@link #update(Driver)}: a driver leaving the prefix shortens it, and a driver entering
+ * it pushes the last one out. A driver ranking below the last entry is not added unless the board holds every
+ * available driver, since drivers outside the board are unknown. Pages reaching past the prefix return empty, so the
+ * caller falls back to SQL. The board is reloaded periodically to refill it and pick up writes made by other
+ * instances. A size of zero disables it.
+ */
+@ApplicationScoped
+public class DriverLeaderboard {
+
+    @ConfigProperty(name = "driver.leaderboard.size", defaultValue = "500")
+    int size;
+
+    @ConfigProperty(name = "driver.leaderboard.refresh-interval-minutes", defaultValue = "5")
+    int refreshIntervalMinutes;
+
+    static final Comparator<DriverDTO> RANKING = Comparator
+            .comparingDouble(DriverDTO::averageScore)
+            .thenComparing(DriverDTO::createdAt)
+            .thenComparing(DriverDTO::driverID)
+            .reversed();
+
+    private final DriverRepository driverRepository;
+
+    private final Map<String, DriverDTO> byID = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<DriverDTO> ranking = new ConcurrentSkipListSet<>(RANKING);
+
+    private volatile boolean complete;
+
+    private volatile boolean ready;
+
+    private ScheduledExecutorService scheduler;
+
+    DriverLeaderboard(DriverRepository driverRepository) {
+        this.driverRepository = driverRepository;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (size <= 0)
+            return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-leaderboard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reload, 0, refreshIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    /**
+     * Re-ranks the driver after a write, dropping it if it is no longer available.
+     */
+    public synchronized void update(Driver driver) {
+        if (!ready)
+            return;
+
+        DriverDTO previous = byID.remove(driver.id().value().toString());
+        if (previous != null)
+            ranking.remove(previous);
+
+        if (!driver.isAvailable())
+            return;
+
+        DriverDTO ranked = DriverDTO.from(driver);
+        if (!complete && (ranking.isEmpty() || RANKING.compare(ranked, ranking.last()) > 0))
+            return;
+
+        add(ranked);
+        if (byID.size() > size) {
+            DriverDTO last = ranking.pollLast();
+            byID.remove(last.driverID());
+            complete = false;
+        }
+    }
+
+    /**
+     * @return the requested page, or empty if the board is not loaded or does not reach that far
+     */
+    public Optional<List<DriverDTO>> page(Pageable page) {
+        if (!ready)
+            return Optional.empty();
+
+        NavigableSet<DriverDTO> view = ranking;
+        Optional<List<String>> after = page.after();
+        if (after.isPresent()) {
+            Optional<DriverDTO> last = seekKey(after.get());
+            if (last.isEmpty())
+                return Optional.empty();
+
+            view = ranking.tailSet(last.get(), false);
+        }
+
+        List<DriverDTO> drivers = view.stream()
+                .skip(page.offset())
+                .limit(page.limit())
+                .toList();
+
+        if (!complete && drivers.size() < page.limit())
+            return Optional.empty();
+
+        return Optional.of(drivers);
+    }
+
+    synchronized void reload() {
+        ready = false;
+        byID.clear();
+        ranking.clear();
+
+        var result = driverRepository.topAvailable(size + 1);
+        if (!result.success()) {
+            Log.error("Can`t load driver leaderboard.", result.throwable());
+            return;
+        }
+
+        List<Driver> drivers = result.value();
+        complete = drivers.size() <= size;
+        drivers.stream().limit(size).map(DriverDTO::from).forEach(this::add);
+        ready = true;
+    }
+
+    /**
+     * @return a probe ranking exactly where the cursor's driver ranked when it was read, or empty if the cursor does
+     * not hold a driver ranking key, so the repository rejects it
+     */
+    private static Optional<DriverDTO> seekKey(List<String> key) {
+        try {
+            if (key.size() != 3)
+                return Optional.empty();
+
+            return Optional.of(new DriverDTO(key.get(2), 0, 0,
+                    Double.parseDouble(key.get(0)), LocalDateTime.parse(key.get(1))));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void add(DriverDTO ranked) {
+        byID.put(ranked.driverID(), ranked);
+        ranking.add(ranked);
+    }
+}
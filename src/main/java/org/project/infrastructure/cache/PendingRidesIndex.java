@@ -0,0 +1,263 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.application.dto.ride.RideDTO;
+import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.repositories.RideRepository;
+import org.project.domain.ride.value_object.Location;
+import org.project.domain.ride.value_object.RideID;
+import org.project.domain.ride.value_object.SearchRadius;
+import org.project.domain.shared.value_objects.Pageable;
+import org.project.infrastructure.geo.GeoHash;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of upcoming {@code PENDING} rides that can accept passengers, used to answer
+ * {@code /ride/actual} without touching the database.
+ * <p>
+ * Rides are keyed by {@code originGeohash + destinationGeohash + rideID} in a skip list, so a radius search
+ * is a handful of prefix range scans followed by an exact distance check. The index holds at most
+ * {@code ride.index.max-size} rides; when full, the rides starting last are dropped and the earliest dropped
+ * start time becomes the horizon. Searches that would need rides past the horizon return empty, so the
+ * caller falls back to SQL. Rides are evicted once their start time passes, and the whole index is reloaded
+ * from the database periodically to pick up writes made by other instances, without ever leaving searches
+ * unanswered while it loads. Searches only return rides starting after both the requested day's start and now,
+ * ordered by start time and id, exactly like the SQL search, so results and pages match whichever path answers.
+ * A size of zero disables the index.
+ */
+@ApplicationScoped
+public class PendingRidesIndex {
+
+    @ConfigProperty(name = "ride.index.max-size", defaultValue = "100000")
+    int maxSize;
+
+    @ConfigProperty(name = "ride.index.refresh-interval-minutes", defaultValue = "5")
+    int refreshIntervalMinutes;
+
+    private static final int SWEEP_INTERVAL_SECONDS = 60;
+
+    private final RideRepository rideRepository;
+
+    /**
+     * The loaded index, or null until the first load succeeds. A reload builds a new snapshot aside and publishes it
+     * with one write, so searches keep using the previous one meanwhile.
+     */
+    private volatile Snapshot snapshot;
+
+    private ScheduledExecutorService scheduler;
+
+    PendingRidesIndex(RideRepository rideRepository) {
+        this.rideRepository = rideRepository;
+    }
+
+    record PendingRide(String key, RideDTO ride, LocalDateTime startTime) {}
+
+    void onStart(@Observes StartupEvent event) {
+        if (maxSize < 1)
+            return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pending-rides-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reload, 0, refreshIntervalMinutes, TimeUnit.MINUTES);
+        scheduler.scheduleWithFixedDelay(this::evictStarted, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    /**
+     * Adds, refreshes or removes the ride depending on whether it is still searchable.
+     */
+    public synchronized void update(Ride ride) {
+        Snapshot current = snapshot;
+        if (current == null)
+            return;
+
+        current.remove(ride.id());
+
+        boolean searchable = ride.canAcceptPassenger() && ride.rideTime().startOfTheTrip().isAfter(LocalDateTime.now());
+        if (searchable)
+            current.add(ride);
+    }
+
+    /**
+     * @return rides matching the search, or empty if the index is not loaded or cannot answer authoritatively
+     */
+    public Optional<List<RideDTO>> actualFor(Location startPoint, Location destination, SearchRadius radius,
+                                             LocalDate date, Pageable page) {
+        Snapshot current = snapshot;
+        if (current == null)
+            return Optional.empty();
+
+        double radiusKm = radius.kilometres();
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = dayStart.isAfter(now) ? dayStart : now;
+        LocalDateTime currentHorizon = current.horizon;
+        String[] destinationCells = GeoHash.cover(destination.latitude(), destination.longitude(), radiusKm);
+
+        List<PendingRide> matches = new ArrayList<>();
+        for (String originCell : new HashSet<>(Arrays.asList(GeoHash.cover(startPoint.latitude(), startPoint.longitude(), radiusKm)))) {
+            for (PendingRide candidate : current.byCells.subMap(originCell, originCell + Character.MAX_VALUE).values()) {
+                LocalDateTime startTime = candidate.startTime();
+                if (startTime.isBefore(from))
+                    continue;
+
+                if (currentHorizon != null && !startTime.isBefore(currentHorizon))
+                    continue;
+
+                if (!matchesDestinationCell(candidate.key(), destinationCells))
+                    continue;
+
+                RideDTO ride = candidate.ride();
+                if (GeoHash.distanceKm(startPoint.latitude(), startPoint.longitude(), ride.fromLatitude(), ride.fromLongitude()) > radiusKm)
+                    continue;
+
+                if (GeoHash.distanceKm(destination.latitude(), destination.longitude(), ride.toLatitude(), ride.toLongitude()) > radiusKm)
+                    continue;
+
+                matches.add(candidate);
+            }
+        }
+
+        if (currentHorizon != null && matches.size() < page.offset() + page.limit())
+            return Optional.empty();
+
+        return Optional.of(matches.stream()
+                .sorted(Snapshot.BY_START_TIME_AND_ID)
+                .skip(page.offset())
+                .limit(page.limit())
+                .map(PendingRide::ride)
+                .toList());
+    }
+
+    /**
+     * Loads a fresh snapshot while searches keep answering from the current one. Holding the lock meanwhile makes
+     * concurrent updates wait and then apply to the new snapshot, so none of them is lost. If the load fails, the
+     * index is dropped and searches fall back to SQL until the next reload.
+     */
+    synchronized void reload() {
+        if (maxSize < 1)
+            return;
+
+        var result = rideRepository.upcoming(maxSize + 1);
+        if (!result.success()) {
+            snapshot = null;
+            Log.error("Can`t warm up pending rides index.", result.throwable());
+            return;
+        }
+
+        Snapshot loaded = new Snapshot(maxSize);
+        List<Ride> rides = result.value();
+        if (rides.size() > maxSize) {
+            loaded.horizon = rides.get(maxSize).rideTime().startOfTheTrip();
+            rides = rides.subList(0, maxSize);
+        }
+
+        rides.stream().filter(Ride::canAcceptPassenger).forEach(loaded::add);
+        snapshot = loaded;
+        Log.infof("Pending rides index loaded with %d rides.", loaded.byID.size());
+    }
+
+    synchronized void evictStarted() {
+        Snapshot current = snapshot;
+        if (current == null)
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        PendingRide first;
+        while ((first = current.byStartTime.isEmpty() ? null : current.byStartTime.first()) != null && !first.startTime().isAfter(now))
+            current.remove(RideID.fromString(first.ride().id()));
+    }
+
+    /**
+     * Rides by id, by {@code originGeohash + destinationGeohash + rideID} and by start time, plus the horizon.
+     * Written under the index lock and read concurrently by searches.
+     */
+    private static final class Snapshot {
+
+        /**
+         * Same order as the SQL search, so paging stays stable when a search falls back to it.
+         */
+        static final Comparator<PendingRide> BY_START_TIME_AND_ID =
+                Comparator.comparing(PendingRide::startTime).thenComparing(pendingRide -> pendingRide.ride().id());
+
+        final int maxSize;
+
+        final Map<RideID, PendingRide> byID = new ConcurrentHashMap<>();
+
+        final ConcurrentSkipListMap<String, PendingRide> byCells = new ConcurrentSkipListMap<>();
+
+        final ConcurrentSkipListSet<PendingRide> byStartTime = new ConcurrentSkipListSet<>(BY_START_TIME_AND_ID);
+
+        volatile LocalDateTime horizon;
+
+        Snapshot(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        void add(Ride ride) {
+            LocalDateTime startTime = ride.rideTime().startOfTheTrip();
+            if (horizon != null && !startTime.isBefore(horizon))
+                return;
+
+            if (byID.size() >= maxSize) {
+                PendingRide last = byStartTime.last();
+                if (!startTime.isBefore(last.startTime())) {
+                    horizon = startTime;
+                    return;
+                }
+
+                remove(RideID.fromString(last.ride().id()));
+                horizon = last.startTime();
+            }
+
+            Location from = ride.route().from();
+            Location to = ride.route().to();
+            String key = GeoHash.encode(from.latitude(), from.longitude())
+                    + GeoHash.encode(to.latitude(), to.longitude())
+                    + ride.id().value();
+
+            PendingRide pendingRide = new PendingRide(key, RideDTO.from(ride), startTime);
+            byID.put(ride.id(), pendingRide);
+            byCells.put(key, pendingRide);
+            byStartTime.add(pendingRide);
+        }
+
+        void remove(RideID rideID) {
+            PendingRide removed = byID.remove(rideID);
+            if (removed == null)
+                return;
+
+            byCells.remove(removed.key());
+            byStartTime.remove(removed);
+        }
+    }
+
+    private static boolean matchesDestinationCell(String key, String[] destinationCells) {
+        for (String cell : destinationCells) {
+            if (key.startsWith(cell, GeoHash.PRECISION))
+                return true;
+        }
+        return false;
+    }
+}
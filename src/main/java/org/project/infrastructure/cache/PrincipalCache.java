@@ -0,0 +1,130 @@
+package org.project.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.fleet.entities.Owner;
+import org.project.domain.shared.value_objects.UserID;
+import org.project.domain.user.entities.User;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, time-limited cache of the accounts behind authenticated requests: users by token identifier,
+ * drivers and owners by user.
+ * <p>
+ * Entities are mutable, so the cache keeps its own copy and hands out a fresh one on every hit; a request
+ * mutating its copy never leaks into another request. Repositories invalidate on their {@code update*} writes, which
+ * happen on every OTP, so invalidation is a lookup: users are indexed by id next to the identifiers they are cached
+ * under, and drivers are cached by the user they belong to. Lookups take no shared lock. Writes made by other
+ * instances are only picked up after {@code principal.cache.ttl-seconds}.
+ */
+@ApplicationScoped
+public class PrincipalCache {
+
+    @ConfigProperty(name = "principal.cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    @ConfigProperty(name = "principal.cache.ttl-seconds", defaultValue = "30")
+    int ttlSeconds;
+
+    private final Map<UUID, Set<String>> identifiers = new ConcurrentHashMap<>();
+
+    private Cache<String, User> users;
+
+    private Cache<UserID, Driver> drivers;
+
+    private Cache<UserID, Owner> owners;
+
+    @PostConstruct
+    void init() {
+        users = builder()
+                .<String, User>evictionListener((identifier, user, cause) -> unindex(user.id(), identifier))
+                .build();
+        drivers = builder().build();
+        owners = builder().build();
+    }
+
+    private Caffeine<Object, Object> builder() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run);
+    }
+
+    public Optional<User> user(String identifier) {
+        return Optional.ofNullable(users.getIfPresent(identifier)).map(PrincipalCache::copy);
+    }
+
+    public void put(String identifier, User user) {
+        users.put(identifier, copy(user));
+        identifiers.compute(user.id(), (id, keys) -> {
+            Set<String> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            indexed.add(identifier);
+            return indexed;
+        });
+    }
+
+    public Optional<Driver> driver(UserID userID) {
+        return Optional.ofNullable(drivers.getIfPresent(userID)).map(PrincipalCache::copy);
+    }
+
+    public void put(Driver driver) {
+        drivers.put(driver.userID(), copy(driver));
+    }
+
+    public Optional<Owner> owner(UserID userID) {
+        return Optional.ofNullable(owners.getIfPresent(userID));
+    }
+
+    public void put(Owner owner) {
+        owners.put(owner.userID(), owner);
+    }
+
+    public void invalidate(UUID userID) {
+        Set<String> keys = identifiers.remove(userID);
+        if (keys != null)
+            users.invalidateAll(keys);
+    }
+
+    public void invalidate(Driver driver) {
+        drivers.invalidate(driver.userID());
+    }
+
+    private void unindex(UUID userID, String identifier) {
+        identifiers.computeIfPresent(userID, (id, keys) -> {
+            keys.remove(identifier);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static User copy(User user) {
+        return User.fromRepository(
+                user.id(),
+                user.personalData(),
+                user.isVerified(),
+                user.isBanned(),
+                user.keyAndCounter(),
+                user.accountDates(),
+                user.is2FAEnabled());
+    }
+
+    private static Driver copy(Driver driver) {
+        return Driver.fromRepository(
+                driver.id(),
+                driver.userID(),
+                driver.license(),
+                driver.dates(),
+                driver.status(),
+                driver.rides(),
+                driver.rating());
+    }
+}
@@ -0,0 +1,150 @@
+package org.project.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.vertx.mutiny.redis.client.Response;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.infrastructure.security.AccessClaims;
+import org.project.infrastructure.security.Digests;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis read-through cache of refresh tokens, so that refreshing an access token needs no database read.
+ * <p>
+ * A session is stored as {@code refresh_token:{sha256(token)}} for {@code refresh-token.cache.ttl-seconds}, or until
+ * the token expires if that is sooner. {@code refresh_token:user:{user}} holds the digest of the user's current
+ * token and is authoritative: the user repository overwrites it whenever it replaces the refresh token, a session is
+ * only served while the pointer still names it, and a session is only cached if the pointer names it or is missing.
+ * A refresh that read a token just before it was replaced therefore can not cache it again. Updating the user evicts
+ * the session, so cached claims stay current. Redis errors are logged and treated as misses.
+ */
+@ApplicationScoped
+public class RefreshTokens {
+
+    static final String PREFIX = "refresh_token:";
+
+    static final String USER_PREFIX = "refresh_token:user:";
+
+    /**
+     * KEYS: session key. ARGV: user prefix, digest. Returns the session only if its user's pointer names the digest.
+     */
+    static final String GET = """
+            local session = redis.call('GET', KEYS[1])
+            if not session then
+                return false
+            end
+            local user = cjson.decode(session)['userID']
+            if redis.call('GET', ARGV[1] .. user) ~= ARGV[2] then
+                return false
+            end
+            return session
+            """;
+
+    /**
+     * KEYS: session key, user key. ARGV: ttl seconds, digest, session. Refuses a token the pointer no longer names.
+     */
+    static final String PUT = """
+            local current = redis.call('GET', KEYS[2])
+            if current and current ~= ARGV[2] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[1])
+            redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[1])
+            return 1
+            """;
+
+    /**
+     * KEYS: user key. ARGV: session prefix, new digest, ttl seconds. Points to the new token and drops the old session.
+     */
+    static final String ROTATE = """
+            local previous = redis.call('GET', KEYS[1])
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            if previous and previous ~= ARGV[2] then
+                redis.call('DEL', ARGV[1] .. previous)
+            end
+            return 1
+            """;
+
+    /**
+     * KEYS: user key. ARGV: session prefix. Drops the session of the current token and keeps the pointer.
+     */
+    static final String EVICT = """
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                redis.call('DEL', ARGV[1] .. current)
+            end
+            return 1
+            """;
+
+    @ConfigProperty(name = "refresh-token.cache.ttl-seconds", defaultValue = "3600")
+    int ttlSeconds;
+
+    private final RedisDataSource redis;
+
+    private final ObjectMapper objectMapper;
+
+    RefreshTokens(Instance<RedisDataSource> redis, ObjectMapper objectMapper) {
+        this.redis = redis.get();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param expiresAt expiry of the refresh token, in epoch seconds
+     */
+    public record RefreshSession(UUID userID, long expiresAt, AccessClaims claims) {}
+
+    public Optional<RefreshSession> get(String refreshToken) {
+        try {
+            String digest = Digests.sha256(refreshToken);
+            Response session = redis.execute("EVAL", GET, "1", PREFIX + digest, USER_PREFIX, digest);
+            if (session == null)
+                return Optional.empty();
+
+            return Optional.of(objectMapper.readValue(session.toString(), RefreshSession.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            Log.error("Can`t read cached refresh token.", e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String refreshToken, RefreshSession session) {
+        long ttl = Math.min(ttlSeconds, session.expiresAt() - Instant.now().getEpochSecond());
+        if (ttl <= 0)
+            return;
+
+        try {
+            String digest = Digests.sha256(refreshToken);
+            redis.execute("EVAL", PUT, "2", PREFIX + digest, USER_PREFIX + session.userID(),
+                    Long.toString(ttl), digest, objectMapper.writeValueAsString(session));
+        } catch (JsonProcessingException | RuntimeException e) {
+            Log.error("Can`t cache refresh token.", e);
+        }
+    }
+
+    /**
+     * Makes the token the only one of the user that can be served from or put into the cache.
+     */
+    public void rotate(UUID userID, String refreshToken) {
+        try {
+            redis.execute("EVAL", ROTATE, "1", USER_PREFIX + userID,
+                    PREFIX, Digests.sha256(refreshToken), Integer.toString(ttlSeconds));
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Can`t rotate cached refresh token of user %s.", userID);
+        }
+    }
+
+    public void evict(UUID userID) {
+        try {
+            redis.execute("EVAL", EVICT, "1", USER_PREFIX + userID, PREFIX);
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Can`t evict cached refresh token of user %s.", userID);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.application.dto.ride.RideRequestEvent;
+import org.project.application.dto.ride.RideRequestToDriver;
+import org.project.domain.ride.entities.RideRequest;
+import org.project.domain.ride.value_object.RideRequestID;
+import org.project.domain.shared.value_objects.DriverID;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes ride request lifecycle events to the drivers connected to this instance.
+ * <p>
+ * With the {@code redis} broker every event is published on {@value #CHANNEL} and each instance delivers the events
+ * of its own connected drivers, so a request stored on one instance reaches a driver streaming from another.
+ * The {@code local} broker delivers in-process only and needs no Redis, which is what tests use.
+ * <p>
+ * Expiry is driven by the expiration scores {@link RideRequests} keeps in Redis: every instance sweeps the requests
+ * whose TTL elapsed each {@code ride-request.expiration.sweep-interval-millis}, and whichever instance removes a
+ * request from its driver's index publishes {@code EXPIRED}. No timer is held in memory, so a restart or a crash
+ * does not lose expirations.
+ */
+@ApplicationScoped
+public class RideRequestEvents {
+
+    static final String CHANNEL = "ride_request_events";
+
+    static final int SWEEP_BATCH_SIZE = 100;
+
+    @ConfigProperty(name = "ride-request.events.broker", defaultValue = "redis")
+    String broker;
+
+    @ConfigProperty(name = "ride-request.expiration.sweep-interval-millis", defaultValue = "1000")
+    int sweepIntervalMillis;
+
+    private final Instance<RedisDataSource> redis;
+
+    private final RideRequests rideRequests;
+
+    private final Map<UUID, Set<MultiEmitter<? super RideRequestEvent>>> listeners = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService sweeper;
+
+    private PubSubCommands<RideRequestEvent> pubSub;
+
+    RideRequestEvents(Instance<RedisDataSource> redis, RideRequests rideRequests) {
+        this.redis = redis;
+        this.rideRequests = rideRequests;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if ("redis".equals(broker)) {
+            pubSub = redis.get().pubsub(RideRequestEvent.class);
+            pubSub.subscribe(CHANNEL, this::deliver);
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ride-request-expirations");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> sweep(System.currentTimeMillis()),
+                sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (sweeper != null)
+            sweeper.shutdownNow();
+    }
+
+    public void created(DriverID driverID, RideRequest rideRequest) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(RideRequests.TTL_SECONDS);
+        publish(RideRequestEvent.created(driverID.value(), rideRequest.id().value(), expiresAt,
+                RideRequestToDriver.from(rideRequest)));
+    }
+
+    public void accepted(DriverID driverID, RideRequestID rideRequestID) {
+        publish(RideRequestEvent.accepted(driverID.value(), rideRequestID.value()));
+    }
+
+    /**
+     * @return events addressed to the driver, for as long as the subscriber stays connected
+     */
+    public Multi<RideRequestEvent> stream(DriverID driverID) {
+        return Multi.createFrom().emitter(emitter -> {
+            Set<MultiEmitter<? super RideRequestEvent>> driverListeners =
+                    listeners.computeIfAbsent(driverID.value(), id -> ConcurrentHashMap.newKeySet());
+            driverListeners.add(emitter);
+
+            emitter.onTermination(() -> listeners.computeIfPresent(driverID.value(), (id, emitters) -> {
+                emitters.remove(emitter);
+                return emitters.isEmpty() ? null : emitters;
+            }));
+        });
+    }
+
+    private void publish(RideRequestEvent event) {
+        if (pubSub == null) {
+            deliver(event);
+            return;
+        }
+
+        pubSub.publish(CHANNEL, event);
+    }
+
+    private void deliver(RideRequestEvent event) {
+        Set<MultiEmitter<? super RideRequestEvent>> driverListeners = listeners.get(event.driverID());
+        if (driverListeners == null)
+            return;
+
+        driverListeners.forEach(emitter -> emitter.emit(event));
+    }
+
+    /**
+     * Publishes {@code EXPIRED} for every request whose TTL elapsed by {@code nowMillis}, in batches of
+     * {@value #SWEEP_BATCH_SIZE}, until none are left.
+     */
+    void sweep(long nowMillis) {
+        try {
+            List<RideRequests.Expiration> expired;
+            do {
+                expired = rideRequests.expiredBy(nowMillis, SWEEP_BATCH_SIZE);
+                for (RideRequests.Expiration expiration : expired) {
+                    if (rideRequests.expire(expiration.driverID(), expiration.rideRequestID()))
+                        publish(RideRequestEvent.expired(expiration.driverID().value(), expiration.rideRequestID().value()));
+                }
+            } while (expired.size() == SWEEP_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            Log.error("Can`t publish ride request expirations.", e);
+        }
+    }
+}
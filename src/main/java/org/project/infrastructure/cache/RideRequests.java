@@ -2,34 +2,65 @@ package org.project.infrastructure.cache;
 
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.sortedset.ScoreRange;
+import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.ZRangeArgs;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import org.project.domain.ride.entities.RideRequest;
 import org.project.domain.ride.value_object.RideRequestID;
 import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.Pageable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Ride requests are stored as {@code ride_request:{driver}:id} values with a TTL, and every driver has a sorted set
+ * {@code ride_request:{driver}} of request ids scored by the time they were put. The index is pruned of expired ids
+ * on read, so a page is one range query plus one {@code MGET}; values that already expired are skipped.
+ * <p>
+ * Every live request is also in {@value #EXPIRATIONS}, scored by the time it expires, so any instance can find the
+ * requests that expired with one range query, even those put by an instance that has since stopped.
+ */
 @ApplicationScoped
 public class RideRequests {
 
-    private static final int TTL_SECONDS = 300;
+    static final int TTL_SECONDS = 300;
+
+    /**
+     * Expired ids are kept in the index a little longer than their values, so that {@link #expire} rather than
+     * the read-side pruning is what removes them and reports the expiry.
+     */
+    private static final int INDEX_GRACE_SECONDS = 30;
+
+    static final String EXPIRATIONS = "ride_request:expirations";
 
     private final KeyCommands<String> keyCommands;
 
     private final ValueCommands<String, RideRequest> commands;
 
+    private final SortedSetCommands<String, String> index;
+
     RideRequests(Instance<RedisDataSource> redis) {
         this.commands = redis.get().value(String.class, RideRequest.class);
         this.keyCommands = redis.get().key();
+        this.index = redis.get().sortedSet(String.class);
     }
 
     public void put(DriverID driverID, RideRequest rideRequest) {
         String redisKey = key(driverID, rideRequest.id());
         commands.setex(redisKey, TTL_SECONDS, rideRequest);
+
+        String indexKey = indexKey(driverID);
+        index.zadd(indexKey, System.currentTimeMillis(), rideRequest.id().value().toString());
+        keyCommands.expire(indexKey, TTL_SECONDS + INDEX_GRACE_SECONDS);
+
+        index.zadd(EXPIRATIONS, System.currentTimeMillis() + TTL_SECONDS * 1000L, expiration(driverID, rideRequest.id()));
     }
 
     public Optional<RideRequest> get(DriverID driverID, RideRequestID rideRequestID) {
@@ -37,21 +68,82 @@ public class RideRequests {
     }
 
     public Optional<RideRequest> del(DriverID driverID, RideRequestID rideRequestID) {
+        index.zrem(indexKey(driverID), rideRequestID.value().toString());
+        index.zrem(EXPIRATIONS, expiration(driverID, rideRequestID));
         return Optional.ofNullable(commands.getdel(key(driverID, rideRequestID)));
     }
 
-    public List<RideRequest> pageOf(DriverID driverID) {
-        return keyCommands.keys(driverRequestsKey(driverID)).stream()
-                .map(commands::get)
-                .filter(Objects::nonNull)
-                .toList();
+    /**
+     * A request listed in {@value #EXPIRATIONS}.
+     */
+    record Expiration(DriverID driverID, RideRequestID rideRequestID) {}
+
+    /**
+     * @return at most {@code limit} requests whose TTL elapsed by {@code nowMillis}, soonest first
+     */
+    List<Expiration> expiredBy(long nowMillis, int limit) {
+        List<String> expired = index.zrangebyscore(EXPIRATIONS,
+                new ScoreRange<>(Double.NEGATIVE_INFINITY, (double) nowMillis), new ZRangeArgs().limit(0, limit));
+
+        List<Expiration> expirations = new ArrayList<>(expired.size());
+        for (String member : expired) {
+            int separator = member.indexOf(':');
+            expirations.add(new Expiration(
+                    new DriverID(UUID.fromString(member.substring(0, separator))),
+                    new RideRequestID(UUID.fromString(member.substring(separator + 1)))));
+        }
+        return expirations;
+    }
+
+    /**
+     * Removes a request whose TTL elapsed from the driver's index and from {@value #EXPIRATIONS}. When several
+     * instances expire the same request, only one of them removes it from the driver's index.
+     *
+     * @return true if this call removed the request from the driver's index, i.e. it expired without being accepted
+     */
+    boolean expire(DriverID driverID, RideRequestID rideRequestID) {
+        boolean expired = index.zrem(indexKey(driverID), rideRequestID.value().toString()) > 0;
+        index.zrem(EXPIRATIONS, expiration(driverID, rideRequestID));
+        return expired;
     }
 
-    private static String driverRequestsKey(DriverID driverID) {
-        return "ride_request:{" + driverID.value() + "}:*";
+    /**
+     * @return the driver's live ride requests, newest first
+     */
+    public List<RideRequest> pageOf(DriverID driverID, Pageable page) {
+        String indexKey = indexKey(driverID);
+        double expiredBefore = System.currentTimeMillis() - (TTL_SECONDS + INDEX_GRACE_SECONDS) * 1000L;
+        index.zremrangebyscore(indexKey, new ScoreRange<>(Double.NEGATIVE_INFINITY, expiredBefore));
+
+        List<String> ids = index.zrange(indexKey, page.offset(), page.offset() + page.limit() - 1L, new ZRangeArgs().rev());
+        if (ids.isEmpty())
+            return List.of();
+
+        String[] keys = ids.stream().map(id -> key(driverID, id)).toArray(String[]::new);
+        Map<String, RideRequest> values = commands.mget(keys);
+
+        List<RideRequest> rideRequests = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            RideRequest rideRequest = values.get(keys[i]);
+            if (rideRequest != null)
+                rideRequests.add(rideRequest);
+        }
+        return rideRequests;
+    }
+
+    private static String indexKey(DriverID driverID) {
+        return "ride_request:{" + driverID.value() + "}";
+    }
+
+    private static String expiration(DriverID driverID, RideRequestID rideRequestID) {
+        return driverID.value() + ":" + rideRequestID.value();
     }
 
     private static String key(DriverID driverID, RideRequestID rideRequestID) {
-        return "ride_request:{" + driverID.value() + "}:" + rideRequestID.value();
+        return key(driverID, rideRequestID.value().toString());
+    }
+
+    private static String key(DriverID driverID, String rideRequestID) {
+        return "ride_request:{" + driverID.value() + "}:" + rideRequestID;
     }
 }
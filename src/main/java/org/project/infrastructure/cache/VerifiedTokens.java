@@ -0,0 +1,115 @@
+package org.project.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.project.infrastructure.security.Digests;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded cache of the identities behind bearer tokens that were already verified, keyed by the token's SHA-256.
+ * <p>
+ * A hit skips parsing and RSA verification of the token. An entry is kept until the token's {@code exp}, unless it is
+ * evicted to stay within {@code auth.token-cache.max-size}. Lookups take no shared lock, since every authenticated
+ * request goes through them. Banning a user removes that user's entries on this instance; other instances keep them
+ * until they expire, which is why services still check the ban on the loaded user. A size of zero disables the cache.
+ * Lookups are counted as {@code auth.token.cache.lookups} by result.
+ */
+@ApplicationScoped
+public class VerifiedTokens {
+
+    @ConfigProperty(name = "auth.token-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+    private static final Attributes HIT = Attributes.of(RESULT, "hit");
+
+    private static final Attributes MISS = Attributes.of(RESULT, "miss");
+
+    private static final Expiry<String, Entry> UNTIL_TOKEN_EXPIRES = Expiry.creating(
+            (key, entry) -> Duration.ofSeconds(entry.expiresAt() - Instant.now().getEpochSecond()));
+
+    private final Meter meter;
+
+    private final LongCounter lookups;
+
+    private Cache<String, Entry> entries;
+
+    VerifiedTokens(OpenTelemetry openTelemetry) {
+        this.meter = openTelemetry.getMeter("org.project.authentication");
+        this.lookups = meter.counterBuilder("auth.token.cache.lookups")
+                .setDescription("Bearer token lookups in the verified token cache, by hit or miss")
+                .build();
+    }
+
+    private record Entry(SecurityIdentity identity, long expiresAt) {}
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfter(UNTIL_TOKEN_EXPIRES)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        meter.gaugeBuilder("auth.token.cache.size")
+                .setDescription("Verified tokens currently cached")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(size()));
+    }
+
+    public Optional<SecurityIdentity> get(String token) {
+        if (maxSize <= 0)
+            return Optional.empty();
+
+        Entry entry = entries.getIfPresent(Digests.sha256(token));
+        Optional<SecurityIdentity> identity = Optional.ofNullable(entry).map(Entry::identity);
+        lookups.add(1, identity.isPresent() ? HIT : MISS);
+        return identity;
+    }
+
+    /**
+     * Caches the identity if its principal is a JWT that has not expired yet.
+     */
+    public void put(String token, SecurityIdentity identity) {
+        if (maxSize <= 0 || !(identity.getPrincipal() instanceof JsonWebToken jwt))
+            return;
+
+        long expiresAt = jwt.getExpirationTime();
+        if (expiresAt <= Instant.now().getEpochSecond())
+            return;
+
+        entries.put(Digests.sha256(token), new Entry(identity, expiresAt));
+    }
+
+    /**
+     * Drops every cached identity of the principal, e.g. once the user is banned. Walks the whole cache, which is fine
+     * for bans but not for anything frequent.
+     */
+    public void invalidate(String principalName) {
+        entries.asMap().values().removeIf(entry -> entry.identity().getPrincipal().getName().equals(principalName));
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
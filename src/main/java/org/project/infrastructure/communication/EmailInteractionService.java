@@ -5,7 +5,6 @@ import io.quarkus.mailer.Mailer;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 
-import org.project.domain.user.entities.OTP;
 import org.project.domain.user.value_objects.Email;
 
 @ApplicationScoped
@@ -47,14 +46,6 @@ public class EmailInteractionService {
         this.mailer = mailer.get();
     }
 
-    public void sendOTP(OTP otp, Email email) {
-        mailer.send(Mail.withText(email.email(), subject, body.formatted(otp.otp())));
-    }
-
-    public void sendSoftVerificationMessage(Email email) {
-        mailer.send(Mail.withText(email.email(), SOFT_VERIFICATION_SUBJECT, SOFT_VERIFICATION_BODY));
-    }
-
     public void sendMessage(Email email, String subject, String body) {
         mailer.send(Mail.withText(email.email(), subject, body));
     }
@@ -0,0 +1,194 @@
+package org.project.infrastructure.communication;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.domain.user.repositories.NotificationRepository;
+import org.project.domain.user.value_objects.Email;
+import org.project.domain.user.value_objects.Notification;
+import org.project.domain.user.value_objects.Phone;
+import org.project.domain.user.value_objects.QueuedNotification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the notification outbox off the request threads.
+ * <p>
+ * A single poller leases batches of due notifications and hands them to one bounded worker pool per channel, so
+ * slow SMTP or SMS calls only ever occupy {@code notification.email.concurrency} and
+ * {@code notification.sms.concurrency} threads. The poller waits for a batch to finish before leasing the next one.
+ * Delivered notifications are removed in one statement per batch. Failed ones are retried with jittered exponential
+ * backoff and marked {@code FAILED} after {@code notification.max-attempts}.
+ */
+@ApplicationScoped
+public class NotificationDispatcher {
+
+    @ConfigProperty(name = "notification.batch-size", defaultValue = "50")
+    int batchSize;
+
+    @ConfigProperty(name = "notification.poll-interval-millis", defaultValue = "500")
+    int pollIntervalMillis;
+
+    @ConfigProperty(name = "notification.lease-seconds", defaultValue = "60")
+    int leaseSeconds;
+
+    @ConfigProperty(name = "notification.max-attempts", defaultValue = "8")
+    int maxAttempts;
+
+    @ConfigProperty(name = "notification.email.concurrency", defaultValue = "4")
+    int emailConcurrency;
+
+    @ConfigProperty(name = "notification.sms.concurrency", defaultValue = "2")
+    int smsConcurrency;
+
+    static final long BASE_BACKOFF_SECONDS = 5;
+
+    static final long MAX_BACKOFF_SECONDS = 15 * 60;
+
+    private final NotificationRepository notificationRepository;
+
+    private final EmailInteractionService emailInteractionService;
+
+    private final PhoneInteractionService phoneInteractionService;
+
+    private ScheduledExecutorService poller;
+
+    private ExecutorService emailWorkers;
+
+    private ExecutorService smsWorkers;
+
+    NotificationDispatcher(
+            NotificationRepository notificationRepository,
+            EmailInteractionService emailInteractionService,
+            PhoneInteractionService phoneInteractionService) {
+
+        this.notificationRepository = notificationRepository;
+        this.emailInteractionService = emailInteractionService;
+        this.phoneInteractionService = phoneInteractionService;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        emailWorkers = Executors.newFixedThreadPool(emailConcurrency, daemon("notification-email"));
+        smsWorkers = Executors.newFixedThreadPool(smsConcurrency, daemon("notification-sms"));
+        poller = Executors.newSingleThreadScheduledExecutor(daemon("notification-poller"));
+        poller.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (poller != null)
+            poller.shutdownNow();
+        if (emailWorkers != null)
+            emailWorkers.shutdownNow();
+        if (smsWorkers != null)
+            smsWorkers.shutdownNow();
+    }
+
+    void drain() {
+        try {
+            List<QueuedNotification> batch;
+            do {
+                var result = notificationRepository.claim(batchSize, leaseSeconds);
+                if (!result.success()) {
+                    Log.error("Can`t claim notifications.", result.throwable());
+                    return;
+                }
+
+                batch = result.value();
+                if (!dispatch(batch))
+                    return;
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            Log.error("Can`t drain notification outbox.", e);
+        }
+    }
+
+    /**
+     * @return false if interrupted; the unfinished notifications are delivered again once their lease runs out
+     */
+    private boolean dispatch(List<QueuedNotification> batch) {
+        Map<QueuedNotification, Future<?>> deliveries = new LinkedHashMap<>();
+        for (QueuedNotification queued : batch) {
+            Notification notification = queued.notification();
+            ExecutorService workers = switch (notification.channel()) {
+                case EMAIL -> emailWorkers;
+                case SMS -> smsWorkers;
+            };
+            deliveries.put(queued, workers.submit(() -> send(notification)));
+        }
+
+        List<UUID> delivered = new ArrayList<>();
+        for (Map.Entry<QueuedNotification, Future<?>> delivery : deliveries.entrySet()) {
+            try {
+                delivery.getValue().get();
+                delivered.add(delivery.getKey().notification().id());
+            } catch (ExecutionException e) {
+                reschedule(delivery.getKey(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                notificationRepository.remove(delivered);
+                return false;
+            }
+        }
+
+        notificationRepository.remove(delivered)
+                .ifFailure(throwable -> Log.error("Can`t remove delivered notifications.", throwable));
+        return true;
+    }
+
+    private void send(Notification notification) {
+        switch (notification.channel()) {
+            case EMAIL -> emailInteractionService.sendMessage(
+                    new Email(notification.recipient()), notification.subject(), notification.body());
+            case SMS -> phoneInteractionService.sendMessage(new Phone(notification.recipient()), notification.body());
+        }
+    }
+
+    private void reschedule(QueuedNotification queued, Throwable cause) {
+        UUID id = queued.notification().id();
+        int attempts = queued.attempts() + 1;
+        String error = String.valueOf(cause.getMessage());
+
+        if (attempts >= maxAttempts) {
+            Log.errorf(cause, "Notification %s failed after %d attempts.", id, attempts);
+            notificationRepository.fail(id, attempts, error)
+                    .ifFailure(throwable -> Log.error("Can`t mark notification as failed.", throwable));
+            return;
+        }
+
+        Log.warnf("Notification %s failed on attempt %d: %s", id, attempts, error);
+        notificationRepository.retry(id, attempts, LocalDateTime.now().plusSeconds(backoffSeconds(attempts)), error)
+                .ifFailure(throwable -> Log.error("Can`t reschedule notification.", throwable));
+    }
+
+    /**
+     * Exponential delay with jitter, so notifications failing together do not retry in lockstep.
+     */
+    static long backoffSeconds(int attempts) {
+        long ceiling = Math.min(MAX_BACKOFF_SECONDS, BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
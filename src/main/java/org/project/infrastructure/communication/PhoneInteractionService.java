@@ -2,20 +2,28 @@ package org.project.infrastructure.communication;
 
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
-import org.project.domain.user.entities.OTP;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.project.domain.user.value_objects.Phone;
 
+/**
+ * Sends SMS through Twilio, or only logs them with the {@code log} sink, which is what dev and tests use.
+ */
 @ApplicationScoped
 public class PhoneInteractionService {
 
     private static final String KARTO_PHONE = "+15005550006";
 
-    public void sendOTP(Phone phone, OTP otp) {
-        Message.creator(new PhoneNumber(phone.phoneNumber()), new PhoneNumber(KARTO_PHONE), otp.otp()).create();
-    }
+    @ConfigProperty(name = "notification.sms.sink", defaultValue = "twilio")
+    String sink;
 
     public void sendMessage(Phone phone, String message) {
+        if ("log".equals(sink)) {
+            Log.infof("SMS to %s: %s", phone.phoneNumber(), message);
+            return;
+        }
+
         Message.creator(new PhoneNumber(phone.phoneNumber()), new PhoneNumber(KARTO_PHONE), message).create();
     }
 }
@@ -6,29 +6,63 @@ import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.vertx.http.runtime.security.ChallengeData;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
+import org.project.infrastructure.cache.VerifiedTokens;
 
+import java.util.Optional;
+
+/**
+ * Authenticates bearer tokens through {@link JWTAuthMechanism}, reusing the identity of a token that was already
+ * verified instead of verifying its signature again.
+ */
 @Priority(1)
 @Alternative
 @ApplicationScoped
 public class DelegatingAuthMechanism implements HttpAuthenticationMechanism {
 
+    private static final String BEARER = "Bearer ";
+
     private final JWTAuthMechanism mechanism;
 
-    DelegatingAuthMechanism(JWTAuthMechanism mechanism) {
+    private final VerifiedTokens verifiedTokens;
+
+    DelegatingAuthMechanism(JWTAuthMechanism mechanism, VerifiedTokens verifiedTokens) {
         this.mechanism = mechanism;
+        this.verifiedTokens = verifiedTokens;
     }
 
     @Override
     public Uni<SecurityIdentity> authenticate(RoutingContext context, IdentityProviderManager identityProviderManager) {
-        return mechanism.authenticate(context, identityProviderManager);
+        String token = bearerToken(context);
+        if (token == null)
+            return mechanism.authenticate(context, identityProviderManager);
+
+        Optional<SecurityIdentity> cached = verifiedTokens.get(token);
+        if (cached.isPresent())
+            return Uni.createFrom().item(cached.get());
+
+        return mechanism.authenticate(context, identityProviderManager)
+                .invoke(identity -> {
+                    if (identity != null)
+                        verifiedTokens.put(token, identity);
+                });
     }
 
     @Override
     public Uni<ChallengeData> getChallenge(RoutingContext context) {
         return mechanism.getChallenge(context);
     }
+
+    private static String bearerToken(RoutingContext context) {
+        String authorization = context.request().getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length()))
+            return null;
+
+        String token = authorization.substring(BEARER.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
 }
@@ -5,6 +5,7 @@ import io.quarkus.runtime.Startup;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
+import org.project.infrastructure.repository.QueryTelemetry;
 
 import javax.sql.DataSource;
 
@@ -14,8 +15,8 @@ public class JDBCInitializer {
 
     private final DataSource dataSource;
 
-    public JDBCInitializer(Instance<DataSource> dataSource) {
-        this.dataSource = dataSource.get();
+    public JDBCInitializer(Instance<DataSource> dataSource, QueryTelemetry telemetry) {
+        this.dataSource = telemetry.observe(dataSource.get());
     }
 
     @PostConstruct
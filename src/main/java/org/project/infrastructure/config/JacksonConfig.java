@@ -0,0 +1,31 @@
+package org.project.infrastructure.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.value_object.SeatMap;
+
+/**
+ * Keeps the JSON shape of domain objects that are not records, such as {@link SeatMap} inside cached ride requests.
+ */
+@Singleton
+public class JacksonConfig implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.addMixIn(SeatMap.class, SeatMapMixin.class);
+    }
+
+    abstract static class SeatMapMixin {
+
+        @JsonCreator
+        SeatMapMixin(@JsonProperty("seats") SeatStatus[][] seats) {
+        }
+
+        @JsonProperty("seats")
+        abstract SeatStatus[][] seats();
+    }
+}
@@ -7,8 +7,10 @@ import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
 
 import org.project.application.dto.common.ErrorMessage;
+import org.project.domain.ride.exceptions.SeatConflictException;
 import org.project.domain.shared.exceptions.DomainException;
 import org.project.domain.user.exceptions.BannedUserException;
+import org.project.infrastructure.security.HashingUnavailableException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +31,21 @@ public class ExceptionHandler implements ExceptionMapper<Throwable> {
           .type(MediaType.APPLICATION_JSON)
           .build();
 
+    if (e instanceof SeatConflictException)
+      return Response
+          .status(Response.Status.CONFLICT)
+          .entity(errorMessage(e.getMessage()))
+          .type(MediaType.APPLICATION_JSON)
+          .build();
+
+    if (e instanceof HashingUnavailableException)
+      return Response
+          .status(Response.Status.SERVICE_UNAVAILABLE)
+          .header("Retry-After", 1)
+          .entity(errorMessage(e.getMessage()))
+          .type(MediaType.APPLICATION_JSON)
+          .build();
+
     if (e instanceof DomainException)
       return Response
           .status(Response.Status.BAD_REQUEST)
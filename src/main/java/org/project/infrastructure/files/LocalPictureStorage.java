@@ -0,0 +1,71 @@
+package org.project.infrastructure.files;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Objects as files under {@code profile.picture.storage.local.root}, used unless {@code profile.picture.storage=s3}.
+ * Every write goes to a temporary file in the target directory and is then renamed over the target.
+ */
+@ApplicationScoped
+@UnlessBuildProperty(name = "profile.picture.storage", stringValue = "s3", enableIfMissing = true)
+public class LocalPictureStorage implements PictureStorage {
+
+  @ConfigProperty(name = "profile.picture.storage.local.root", defaultValue = "data/profile-pictures")
+  Path root;
+
+  @Override
+  public boolean exists(String key) {
+    return Files.isRegularFile(resolve(key));
+  }
+
+  @Override
+  public void putFile(String key, Path file) throws IOException {
+    Path target = resolve(key);
+    Files.createDirectories(target.getParent());
+    try {
+      Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Path temporary = temporaryNextTo(target);
+      try {
+        Files.move(file, temporary, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    }
+  }
+
+  @Override
+  public Optional<StoredObject> get(String key) throws IOException {
+    Path path = resolve(key);
+    try {
+      long size = Files.size(path);
+      return Optional.of(new StoredObject(size, Optional.of(path), () -> Files.newInputStream(path)));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Path resolve(String key) {
+    Path path = root.resolve(key).normalize();
+    if (!path.startsWith(root.normalize()))
+      throw new IllegalArgumentException("Key escapes the storage root: " + key);
+
+    return path;
+  }
+
+  private static Path temporaryNextTo(Path target) throws IOException {
+    return Files.createTempFile(target.getParent(), target.getFileName().toString(), ".upload");
+  }
+}
@@ -0,0 +1,32 @@
+package org.project.infrastructure.files;
+
+import java.io.IOException;
+
+import org.project.infrastructure.files.PictureStorage.StoredObject;
+
+/**
+ * A stored picture described without reading it.
+ *
+ * @param imageType {@code jpeg} or {@code png}, as recorded when the picture was stored
+ * @param etag      strong entity tag derived from the content digest
+ */
+public record PictureFile(StoredObject object, String imageType, String etag) {
+
+  public long size() {
+    return object.size();
+  }
+
+  public String mediaType() {
+    return "image/" + imageType;
+  }
+
+  /**
+   * @return the local file, so it can be sent straight from disk, or else a stream of the object
+   */
+  public Object entity() throws IOException {
+    if (object.path().isPresent())
+      return object.path().get();
+
+    return object.open();
+  }
+}
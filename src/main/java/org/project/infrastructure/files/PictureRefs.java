@@ -0,0 +1,64 @@
+package org.project.infrastructure.files;
+
+import static com.hadzhy.jetquerious.sql.QueryForge.select;
+import static com.hadzhy.jetquerious.sql.QueryForge.update;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.hadzhy.jetquerious.jdbc.JetQuerious;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * The current profile picture of each user, kept on the user row so that serving a picture reads one row and then
+ * only immutable objects from the {@link PictureStorage}.
+ */
+@ApplicationScoped
+public class PictureRefs {
+
+  static final String FIND = select()
+      .column("profile_picture_digest")
+      .column("profile_picture_type")
+      .from("user_account")
+      .where("id = ?")
+      .and("profile_picture_digest IS NOT NULL")
+      .build()
+      .sql();
+
+  static final String SAVE = update("user_account")
+      .set("profile_picture_digest = ?, profile_picture_type = ?")
+      .where("id = ?")
+      .build()
+      .sql();
+
+  private final JetQuerious jet;
+
+  PictureRefs() {
+    this.jet = JetQuerious.instance();
+  }
+
+  /**
+   * @param digest the SHA-256 of the picture and the image type it was stored as
+   */
+  record Ref(String digest, String imageType) {}
+
+  Optional<Ref> find(UUID userID) throws IOException {
+    var result = jet.readListOf(FIND,
+        rs -> new Ref(rs.getString("profile_picture_digest"), rs.getString("profile_picture_type")),
+        userID.toString());
+    if (!result.success())
+      throw new IOException("Can`t read profile picture of user " + userID, result.throwable());
+
+    return result.value().stream().findFirst();
+  }
+
+  void save(UUID userID, Ref ref) throws IOException {
+    var result = jet.write(SAVE, ref.digest(), ref.imageType(), userID.toString());
+    if (!result.success())
+      throw new IOException("Can`t save profile picture of user " + userID, result.throwable());
+    if (result.value() == 0)
+      throw new IOException("No user " + userID);
+  }
+}
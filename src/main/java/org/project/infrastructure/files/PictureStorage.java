@@ -0,0 +1,45 @@
+package org.project.infrastructure.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Blob store behind {@link ProfilePictureRepository}, selected with {@code profile.picture.storage}.
+ * <p>
+ * Keys are {@code /}-separated relative names. Objects are immutable content; a write replaces the whole object and
+ * is never observed half done.
+ */
+public interface PictureStorage {
+
+  boolean exists(String key) throws IOException;
+
+  /**
+   * Stores the file under the key and takes ownership of it: the file is moved or deleted afterwards.
+   */
+  void putFile(String key, Path file) throws IOException;
+
+  Optional<StoredObject> get(String key) throws IOException;
+
+  /**
+   * @param path the object as a local file, if the storage has one, so it can be sent without copying
+   */
+  record StoredObject(long size, Optional<Path> path, Content content) {
+
+    public InputStream open() throws IOException {
+      return content.open();
+    }
+
+    public byte[] readAllBytes() throws IOException {
+      try (InputStream input = open()) {
+        return input.readAllBytes();
+      }
+    }
+  }
+
+  @FunctionalInterface
+  interface Content {
+    InputStream open() throws IOException;
+  }
+}
@@ -1,51 +1,222 @@
 package org.project.infrastructure.files;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
-import org.project.domain.user.entities.User;
 import org.project.domain.user.value_objects.ProfilePicture;
+import org.project.infrastructure.files.PictureRefs.Ref;
+import org.project.infrastructure.files.PictureStorage.StoredObject;
 
 import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 
+/**
+ * Profile pictures in a {@link PictureStorage}, addressed by the SHA-256 of their content.
+ * <p>
+ * A picture is stored once as {@code objects/{ab}/{cd}/{sha256}}, fanned out by the first two bytes of its digest so
+ * no directory or prefix grows unbounded, and users uploading the same picture share that object. The digest and
+ * image type of each user's current picture are kept in {@link PictureRefs}, so the storage only ever holds
+ * immutable objects. The digest doubles as a strong entity tag on every instance; objects no longer referenced are
+ * kept.
+ * <p>
+ * On startup, pictures still in the legacy {@code static/profile/photos} directory are imported for users without a
+ * picture, unless {@code profile.picture.storage.import-legacy} is off.
+ */
 @ApplicationScoped
 public class ProfilePictureRepository {
 
-  public void put(User user) {
-    ProfilePicture picture = user.profilePicture()
-        .orElseThrow(() -> new IllegalDomainArgumentException(
-            "Can't get profile picture. User doesn't contain profile picture."));
+  static final Path LEGACY_DIRECTORY = Path.of(ProfilePicture.DEFAULT_PROFILE_PICTURE_PATH).getParent();
 
-    String path = picture.path();
-    byte[] pictureBytes = picture.profilePicture();
+  private static final Pattern LEGACY_PICTURE = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
 
-    try {
-      Path profilePicturePath = Path.of(path);
-      Files.createDirectories(profilePicturePath.getParent());
-      Files.write(profilePicturePath, pictureBytes,
-          StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+  @ConfigProperty(name = "profile.picture.storage.import-legacy", defaultValue = "true")
+  boolean importLegacy;
+
+  private final PictureStorage storage;
+
+  private final PictureRefs refs;
+
+  private final ProfilePictureVariants variants;
+
+  ProfilePictureRepository(PictureStorage storage, PictureRefs refs, ProfilePictureVariants variants) {
+    this.storage = storage;
+    this.refs = refs;
+    this.variants = variants;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (importLegacy)
+      importLegacy(LEGACY_DIRECTORY);
+  }
+
+  /**
+   * Streams an uploaded picture into storage. The type is checked on the leading bytes before anything is written,
+   * and the upload is aborted as soon as it exceeds {@link ProfilePicture#MAX_SIZE}, so at most one buffer of it is
+   * ever in memory. The picture is hashed while it is spooled to a temporary file; if an object with that digest is
+   * already stored, the upload is dropped and the user's ref points to the existing one. Variants are scheduled once
+   * the ref is saved.
+   */
+  public PictureFile store(UUID userID, InputStream picture) {
+    Path upload = null;
+    try (picture) {
+      byte[] head = picture.readNBytes(ProfilePicture.SIGNATURE_LENGTH);
+      String imageType = ProfilePicture.imageTypeOf(head)
+          .orElseThrow(() -> new IllegalDomainArgumentException("Invalid profile picture type."));
+
+      upload = Files.createTempFile("profile-picture", ".upload");
+      MessageDigest sha256 = sha256();
+      try (OutputStream output = new DigestOutputStream(Files.newOutputStream(upload), sha256)) {
+        output.write(head);
+        long written = head.length;
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = picture.read(buffer)) != -1) {
+          written += read;
+          if (written > ProfilePicture.MAX_SIZE)
+            throw new IllegalDomainArgumentException("Profile picture must not exceed %d bytes.".formatted(ProfilePicture.MAX_SIZE));
+
+          output.write(buffer, 0, read);
+        }
+      }
+
+      Ref ref = new Ref(HexFormat.of().formatHex(sha256.digest()), imageType);
+      String key = objectKey(ref.digest());
+      if (storage.exists(key)) {
+        Log.debugf("Profile picture of user %s is already stored as %s", userID, key);
+      } else {
+        storage.putFile(key, upload);
+        upload = null;
+      }
 
-      Log.infof("Profile picture saved to %s", path);
+      refs.save(userID, ref);
+      variants.schedule(ref.digest());
+      Log.infof("Profile picture of user %s saved as %s", userID, key);
+
+      return original(ref).orElseThrow(() -> new IllegalStateException("Saved profile picture is not readable: " + key));
     } catch (IOException e) {
-      Log.error("Failed to write profile picture to " + path, e);
+      Log.errorf(e, "Failed to store profile picture of user %s", userID);
       throw new IllegalDomainArgumentException("Failed to save profile picture: " + e.getMessage(), e);
+    } finally {
+      if (upload != null)
+        deleteQuietly(upload);
+    }
+  }
+
+  public Optional<ProfilePicture> load(UUID userID) {
+    try {
+      Optional<Ref> ref = refs.find(userID);
+      if (ref.isEmpty())
+        return Optional.empty();
+
+      String key = objectKey(ref.get().digest());
+      Optional<StoredObject> object = storage.get(key);
+      if (object.isEmpty())
+        return Optional.empty();
+
+      return Optional.of(ProfilePicture.fromRepository(key, object.get().readAllBytes()));
+    } catch (IOException e) {
+      Log.errorf(e, "Failed to load profile picture of user %s", userID);
+      return Optional.empty();
     }
   }
 
-  public Optional<ProfilePicture> load(String path) {
-    Path profilePicturePath = Path.of(path);
+  /**
+   * Describes the stored picture without reading it. A variant that is not rendered yet is scheduled and the
+   * original is returned meanwhile.
+   *
+   * @param size one of {@link ProfilePictureVariants#SIZES}, or null for the original
+   */
+  public Optional<PictureFile> file(UUID userID, Integer size) {
     try {
-      byte[] bytes = Files.readAllBytes(profilePicturePath);
-      Log.infof("Successfully loaded profile picture from %s", path);
-      return Optional.of(ProfilePicture.fromRepository(path, bytes));
+      Optional<Ref> ref = refs.find(userID);
+      if (ref.isEmpty())
+        return Optional.empty();
+
+      if (size != null) {
+        Optional<StoredObject> variant = storage.get(variantKey(ref.get().digest(), size));
+        if (variant.isPresent())
+          return Optional.of(new PictureFile(variant.get(), ref.get().imageType(), ref.get().digest() + "-" + size));
+
+        variants.schedule(ref.get().digest());
+      }
+
+      return original(ref.get());
     } catch (IOException e) {
-      Log.error("Failed to load profile picture from " + path, e);
+      Log.errorf(e, "Failed to open profile picture of user %s", userID);
       return Optional.empty();
     }
   }
+
+  static String objectKey(String digest) {
+    return "objects/%s/%s/%s".formatted(digest.substring(0, 2), digest.substring(2, 4), digest);
+  }
+
+  static String variantKey(String digest, int size) {
+    return objectKey(digest) + "_" + size;
+  }
+
+  void importLegacy(Path directory) {
+    if (!Files.isDirectory(directory))
+      return;
+
+    int imported = 0;
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path legacy : (Iterable<Path>) files::iterator) {
+        String name = legacy.getFileName().toString();
+        if (!LEGACY_PICTURE.matcher(name).matches())
+          continue;
+
+        UUID userID = UUID.fromString(name);
+        try {
+          if (refs.find(userID).isPresent())
+            continue;
+
+          store(userID, Files.newInputStream(legacy));
+          imported++;
+        } catch (IOException | IllegalDomainArgumentException e) {
+          Log.warnf("Legacy profile picture %s is not importable: %s", legacy, e.getMessage());
+        }
+      }
+    } catch (IOException e) {
+      Log.error("Legacy profile picture import failed", e);
+    }
+
+    Log.infof("Imported %d legacy profile pictures", imported);
+  }
+
+  private Optional<PictureFile> original(Ref ref) throws IOException {
+    return storage.get(objectKey(ref.digest()))
+        .map(object -> new PictureFile(object, ref.imageType(), ref.digest()));
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void deleteQuietly(Path upload) {
+    try {
+      Files.deleteIfExists(upload);
+    } catch (IOException e) {
+      Log.error("Failed to delete unfinished profile picture upload " + upload, e);
+    }
+  }
 }
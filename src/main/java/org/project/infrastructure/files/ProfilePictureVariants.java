@@ -0,0 +1,225 @@
+package org.project.infrastructure.files;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.project.infrastructure.files.PictureStorage.StoredObject;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Downscaled copies of profile pictures, stored next to the original object as {@code {object}_{size}} and fitting
+ * within {@code size x size} pixels. Since originals are addressed by content, a variant never goes stale and is
+ * rendered once for every user sharing the picture.
+ * <p>
+ * Variants are rendered off the request threads on a pool of {@code profile.picture.variants.concurrency} threads
+ * with at most {@code profile.picture.variants.queue-size} pictures waiting; a picture that does not fit is scheduled
+ * again the next time one of its variants is requested. Until then the original is served instead. Pictures larger
+ * than {@code profile.picture.variants.max-pixels} by their header are never decoded and only served as uploaded.
+ */
+@ApplicationScoped
+public class ProfilePictureVariants {
+
+  public static final int[] SIZES = { 64, 256, 512 };
+
+  @ConfigProperty(name = "profile.picture.variants.concurrency", defaultValue = "2")
+  int concurrency;
+
+  @ConfigProperty(name = "profile.picture.variants.queue-size", defaultValue = "100")
+  int queueSize;
+
+  @ConfigProperty(name = "profile.picture.variants.max-pixels", defaultValue = "50000000")
+  long maxPixels;
+
+  private final PictureStorage storage;
+
+  private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+  private ThreadPoolExecutor executor;
+
+  ProfilePictureVariants(PictureStorage storage) {
+    this.storage = storage;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueSize),
+        runnable -> {
+          Thread thread = new Thread(runnable, "profile-picture-variants");
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        });
+  }
+
+  void onStop(@Observes ShutdownEvent event) {
+    if (executor != null)
+      executor.shutdownNow();
+  }
+
+  /**
+   * Renders the variants of the picture with the digest in the background, unless it is already waiting.
+   */
+  public void schedule(String digest) {
+    if (executor == null || !pending.add(digest))
+      return;
+
+    try {
+      executor.execute(() -> {
+        try {
+          render(digest);
+        } finally {
+          pending.remove(digest);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      pending.remove(digest);
+      Log.warnf("Variant queue is full, variants of %s are rendered on a later request", digest);
+    }
+  }
+
+  public static boolean isSupported(int size) {
+    for (int supported : SIZES) {
+      if (supported == size)
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Decodes the original once, subsampled so that its long side is no more than about twice the largest variant, and
+   * stores every variant that is missing.
+   */
+  void render(String digest) {
+    try {
+      if (rendered(digest))
+        return;
+
+      Optional<StoredObject> original = storage.get(ProfilePictureRepository.objectKey(digest));
+      if (original.isEmpty()) {
+        Log.debugf("Profile picture %s is not stored, no variants rendered", digest);
+        return;
+      }
+
+      String format;
+      BufferedImage image;
+      try (InputStream stream = original.get().open();
+           ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+        Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+          Log.warnf("No image reader for profile picture %s", digest);
+          return;
+        }
+
+        ImageReader reader = readers.next();
+        try {
+          reader.setInput(input, true, true);
+          format = reader.getFormatName().toLowerCase();
+
+          int width = reader.getWidth(0);
+          int height = reader.getHeight(0);
+          if ((long) width * height > maxPixels) {
+            Log.warnf("Profile picture %s is %dx%d, over %d pixels, no variants rendered", digest, width, height,
+                maxPixels);
+            return;
+          }
+
+          int subsampling = subsampling(width, height);
+          ImageReadParam param = reader.getDefaultReadParam();
+          param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+          image = reader.read(0, param);
+        } finally {
+          reader.dispose();
+        }
+      }
+
+      for (int size : SIZES) {
+        String key = ProfilePictureRepository.variantKey(digest, size);
+        if (!storage.exists(key))
+          write(scaled(image, size, format), format, key);
+      }
+    } catch (IOException | RuntimeException e) {
+      Log.errorf(e, "Failed to render variants of profile picture %s", digest);
+    }
+  }
+
+  /**
+   * Sampling step that keeps the long side at no less than twice the largest variant, so that a long, thin picture is
+   * not decoded at full size.
+   */
+  static int subsampling(int width, int height) {
+    return Math.max(1, Math.max(width, height) / (SIZES[SIZES.length - 1] * 2));
+  }
+
+  private boolean rendered(String digest) throws IOException {
+    for (int size : SIZES) {
+      if (!storage.exists(ProfilePictureRepository.variantKey(digest, size)))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Fits the image within {@code size x size}, halving it step by step first so large downscales stay smooth with
+   * bilinear sampling. Images already small enough are not enlarged.
+   */
+  static BufferedImage scaled(BufferedImage image, int size, String format) {
+    double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+    int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+    int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+    BufferedImage current = image;
+    do {
+      int stepWidth = Math.max(width, current.getWidth() / 2);
+      int stepHeight = Math.max(height, current.getHeight() / 2);
+      BufferedImage step = new BufferedImage(stepWidth, stepHeight, type);
+      Graphics2D graphics = step.createGraphics();
+      try {
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(current, 0, 0, stepWidth, stepHeight, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = step;
+    } while (current.getWidth() != width || current.getHeight() != height);
+
+    return current;
+  }
+
+  private void write(BufferedImage image, String format, String key) throws IOException {
+    Path temporary = Files.createTempFile("profile-picture", ".variant");
+    try {
+      if (!ImageIO.write(image, format, temporary.toFile()))
+        throw new IOException("No image writer for " + format);
+
+      storage.putFile(key, temporary);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+}
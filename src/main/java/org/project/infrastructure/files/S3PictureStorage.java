@@ -0,0 +1,112 @@
+package org.project.infrastructure.files;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.UploadObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Objects in an S3-compatible bucket such as MinIO, selected with {@code profile.picture.storage=s3}, so every
+ * instance sees the same pictures. The bucket is created on startup if it does not exist.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "profile.picture.storage", stringValue = "s3")
+public class S3PictureStorage implements PictureStorage {
+
+  private static final String NO_SUCH_KEY = "NoSuchKey";
+
+  @ConfigProperty(name = "profile.picture.storage.s3.endpoint")
+  String endpoint;
+
+  @ConfigProperty(name = "profile.picture.storage.s3.access-key")
+  String accessKey;
+
+  @ConfigProperty(name = "profile.picture.storage.s3.secret-key")
+  String secretKey;
+
+  @ConfigProperty(name = "profile.picture.storage.s3.bucket", defaultValue = "profile-pictures")
+  String bucket;
+
+  private MinioClient client;
+
+  void onStart(@Observes StartupEvent event) throws IOException {
+    start();
+  }
+
+  void start() throws IOException {
+    client = MinioClient.builder()
+        .endpoint(endpoint)
+        .credentials(accessKey, secretKey)
+        .build();
+
+    try {
+      if (!client.bucketExists(BucketExistsArgs.builder().bucket(bucket).build()))
+        client.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+    } catch (Exception e) {
+      throw failure("Can`t prepare bucket " + bucket, e);
+    }
+  }
+
+  @Override
+  public boolean exists(String key) throws IOException {
+    return stat(key).isPresent();
+  }
+
+  @Override
+  public void putFile(String key, Path file) throws IOException {
+    try {
+      client.uploadObject(UploadObjectArgs.builder()
+          .bucket(bucket)
+          .object(key)
+          .filename(file.toString())
+          .build());
+    } catch (Exception e) {
+      throw failure("Can`t upload " + key, e);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Override
+  public Optional<StoredObject> get(String key) throws IOException {
+    return stat(key).map(stat -> new StoredObject(stat.size(), Optional.empty(), () -> {
+      try {
+        return client.getObject(GetObjectArgs.builder().bucket(bucket).object(key).build());
+      } catch (Exception e) {
+        throw failure("Can`t download " + key, e);
+      }
+    }));
+  }
+
+  private Optional<StatObjectResponse> stat(String key) throws IOException {
+    try {
+      return Optional.of(client.statObject(StatObjectArgs.builder().bucket(bucket).object(key).build()));
+    } catch (ErrorResponseException e) {
+      if (NO_SUCH_KEY.equals(e.errorResponse().code()))
+        return Optional.empty();
+
+      throw failure("Can`t read " + key, e);
+    } catch (Exception e) {
+      throw failure("Can`t read " + key, e);
+    }
+  }
+
+  private static IOException failure(String message, Exception cause) {
+    return cause instanceof IOException io ? io : new IOException(message, cause);
+  }
+}
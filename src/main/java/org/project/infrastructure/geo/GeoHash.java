@@ -0,0 +1,175 @@
+package org.project.infrastructure.geo;
+
+import java.util.Arrays;
+
+/**
+ * Geohash encoding and radius coverage used by the ride search.
+ * <p>
+ * Every ride stores a geohash of {@link #PRECISION} characters for its origin and destination.
+ * A radius search is answered by picking the longest prefix whose cell is at least as large as the
+ * radius and taking that cell together with its eight neighbours, so every point inside the radius
+ * shares one of the nine prefixes. Rows matching a prefix are then narrowed by a bounding box and
+ * finally by the exact great-circle distance.
+ */
+public final class GeoHash {
+
+  public static final int PRECISION = 9;
+
+  public static final int COVER_CELLS = 9;
+
+  public static final double EARTH_RADIUS_KM = 6371.0088;
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  private GeoHash() {
+  }
+
+  public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+  }
+
+  public static String encode(double latitude, double longitude) {
+    return encode(latitude, longitude, PRECISION);
+  }
+
+  public static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90.0, maxLat = 90.0;
+    double minLon = -180.0, maxLon = 180.0;
+
+    char[] hash = new char[precision];
+    boolean evenBit = true;
+    int bits = 0;
+    int ch = 0;
+    int position = 0;
+
+    while (position < precision) {
+      if (evenBit) {
+        double mid = (minLon + maxLon) / 2;
+        if (longitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLon = mid;
+        } else {
+          ch = ch << 1;
+          maxLon = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLat = mid;
+        } else {
+          ch = ch << 1;
+          maxLat = mid;
+        }
+      }
+
+      evenBit = !evenBit;
+      if (++bits == 5) {
+        hash[position++] = BASE32[ch];
+        bits = 0;
+        ch = 0;
+      }
+    }
+
+    return new String(hash);
+  }
+
+  /**
+   * @return the nine geohash prefixes (center cell and its neighbours) covering every point within
+   * {@code radiusKm} of the given coordinates. Duplicates are possible near the poles; an empty prefix
+   * means the radius is too wide to be narrowed by cells at all.
+   */
+  public static String[] cover(double latitude, double longitude, double radiusKm) {
+    double latDelta = latitudeDelta(radiusKm);
+    double lonDelta = longitudeDelta(latitude, radiusKm);
+    int precision = precisionFor(latDelta, lonDelta);
+
+    String[] cells = new String[COVER_CELLS];
+    if (precision == 0) {
+      Arrays.fill(cells, "");
+      return cells;
+    }
+
+    double height = cellHeight(precision);
+    double width = cellWidth(precision);
+
+    int i = 0;
+    for (int dy = -1; dy <= 1; dy++) {
+      for (int dx = -1; dx <= 1; dx++) {
+        double lat = clampLatitude(latitude + dy * height);
+        double lon = wrapLongitude(longitude + dx * width);
+        cells[i++] = encode(lat, lon, precision);
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * @return a box containing every point within {@code radiusKm}. The longitude range is widened to the
+   * whole globe when the circle crosses the antimeridian or reaches a pole.
+   */
+  public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+    double latDelta = latitudeDelta(radiusKm);
+    double lonDelta = longitudeDelta(latitude, radiusKm);
+
+    double minLat = Math.max(-90.0, latitude - latDelta);
+    double maxLat = Math.min(90.0, latitude + latDelta);
+
+    double minLon = longitude - lonDelta;
+    double maxLon = longitude + lonDelta;
+    if (minLon < -180.0 || maxLon > 180.0) {
+      minLon = -180.0;
+      maxLon = 180.0;
+    }
+
+    return new BoundingBox(minLat, maxLat, minLon, maxLon);
+  }
+
+  public static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+    double dLat = Math.toRadians(toLatitude - fromLatitude);
+    double dLon = Math.toRadians(toLongitude - fromLongitude);
+
+    double a = Math.pow(Math.sin(dLat / 2), 2)
+        + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude)) * Math.pow(Math.sin(dLon / 2), 2);
+
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  static double cellHeight(int precision) {
+    int latBits = (precision * 5) / 2;
+    return 180.0 / (1L << latBits);
+  }
+
+  static double cellWidth(int precision) {
+    int lonBits = (precision * 5 + 1) / 2;
+    return 360.0 / (1L << lonBits);
+  }
+
+  private static int precisionFor(double latDelta, double lonDelta) {
+    for (int precision = PRECISION; precision > 0; precision--) {
+      if (cellHeight(precision) >= latDelta && cellWidth(precision) >= lonDelta)
+        return precision;
+    }
+    return 0;
+  }
+
+  private static double latitudeDelta(double radiusKm) {
+    return Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+  }
+
+  private static double longitudeDelta(double latitude, double radiusKm) {
+    double latDelta = latitudeDelta(radiusKm);
+    double farthestLatitude = Math.abs(latitude) + latDelta;
+    if (farthestLatitude >= 90.0)
+      return 360.0;
+
+    return latDelta / Math.cos(Math.toRadians(farthestLatitude));
+  }
+
+  private static double clampLatitude(double latitude) {
+    return Math.max(-90.0, Math.min(90.0, latitude));
+  }
+
+  private static double wrapLongitude(double longitude) {
+    return ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0;
+  }
+}
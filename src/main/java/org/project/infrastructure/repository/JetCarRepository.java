@@ -8,6 +8,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.hadzhy.jetquerious.sql.QueryForge;
@@ -53,7 +54,20 @@ public class JetCarRepository implements CarRepository {
 			.column("seat_count")
 			.from("car")
 			.where("owner = ?")
-			.orderBy("created_at DESC")
+			.orderBy("created_at DESC, id DESC")
+			.limitAndOffset().sql();
+
+	static final String PAGE_OF_CARS_AFTER = select()
+			.column("license_plate")
+			.column("car_brand")
+			.column("car_model")
+			.column("car_color")
+			.column("car_year")
+			.column("seat_count")
+			.from("car")
+			.where("owner = ?")
+			.and("(created_at, id) < (SELECT created_at, id FROM car WHERE license_plate = ?)")
+			.orderBy("created_at DESC, id DESC")
 			.limitAndOffset().sql();
 
 	static final String IS_LICENSE_PLATE_EXISTS = select()
@@ -96,7 +110,10 @@ public class JetCarRepository implements CarRepository {
 
     @Override
 	public Result<List<CarDTO>, Throwable> pageOf(Pageable pageable, UserID userID) {
-		var listOf = jet.readListOf(PAGE_OF_CARS, this::carDTOMapper, userID.value(), pageable.limit(), pageable.offset());
+		Optional<String> after = pageable.after().map(List::getFirst);
+		var listOf = after.isPresent()
+				? jet.readListOf(PAGE_OF_CARS_AFTER, this::carDTOMapper, userID.value(), after.get(), pageable.limit(), pageable.offset())
+				: jet.readListOf(PAGE_OF_CARS, this::carDTOMapper, userID.value(), pageable.limit(), pageable.offset());
 		return new Result<>(listOf.value(), listOf.throwable(), listOf.success());
 	}
 
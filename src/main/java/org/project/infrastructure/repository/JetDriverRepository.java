@@ -4,32 +4,49 @@ import static com.hadzhy.jetquerious.sql.QueryForge.insert;
 import static com.hadzhy.jetquerious.sql.QueryForge.select;
 import static com.hadzhy.jetquerious.sql.QueryForge.update;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.project.application.dto.fleet.DriverDTO;
-import org.project.application.pagination.PageRequest;
 import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.enumerations.DriverStatus;
 import org.project.domain.fleet.repositories.DriverRepository;
 import org.project.domain.fleet.value_objects.*;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.domain.shared.containers.Result;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
 import org.project.domain.shared.value_objects.Dates;
 import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.Pageable;
+import org.project.infrastructure.cache.DriverLeaderboard;
+import org.project.infrastructure.cache.PrincipalCache;
 
 import com.hadzhy.jetquerious.jdbc.JetQuerious;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+
+import javax.sql.DataSource;
 
 @ApplicationScoped
 public class JetDriverRepository implements DriverRepository {
 
 	private final JetQuerious jet;
 
+	private final DataSource dataSource;
+
+	private final PrincipalCache principals;
+
+	private final DriverLeaderboard leaderboard;
+
 	static final String SAVE_DRIVER = insert()
 			.into("driver")
 			.columns(
@@ -40,6 +57,7 @@ public class JetDriverRepository implements DriverRepository {
 					"rides",
 					"total_reviews",
 					"sum_of_scores",
+					"average_rating",
 					"created_at",
 					"last_updated"
 			)
@@ -66,7 +84,7 @@ public class JetDriverRepository implements DriverRepository {
 			.sql();
 
 	static final String UPDATE_RATING = update("driver")
-			.set("total_reviews = ?, sum_of_scores = ?, last_updated = ?")
+			.set("total_reviews = ?, sum_of_scores = ?, average_rating = ?, last_updated = ?")
 			.where("id = ?")
 			.build()
 			.sql();
@@ -97,34 +115,96 @@ public class JetDriverRepository implements DriverRepository {
 			    d.id AS id,
 			    d.rides AS rides,
 			    d.total_reviews AS total_reviews,
-			    d.sum_of_scores AS sum_of_scores,
-			    CASE
-			        WHEN d.total_reviews > 0
-			        THEN d.sum_of_scores::decimal / d.total_reviews
-			        ELSE NULL
-			    END AS average
+			    d.average_rating AS average,
+			    d.created_at AS created_at
 			FROM driver d
-			ORDER BY average DESC
+			WHERE d.status = 'AVAILABLE'
+			ORDER BY d.average_rating DESC, d.created_at DESC, d.id DESC
 			LIMIT ? OFFSET ?;
 			""";
 
+	static final String PAGE_AFTER = """
+			SELECT
+			    d.id AS id,
+			    d.rides AS rides,
+			    d.total_reviews AS total_reviews,
+			    d.average_rating AS average,
+			    d.created_at AS created_at
+			FROM driver d
+			WHERE d.status = 'AVAILABLE'
+			AND (d.average_rating, d.created_at, d.id) < (?, ?, ?)
+			ORDER BY d.average_rating DESC, d.created_at DESC, d.id DESC
+			LIMIT ? OFFSET ?;
+			""";
+
+	static final String TOP_AVAILABLE = """
+			SELECT *
+			FROM driver d
+			WHERE d.status = 'AVAILABLE'
+			ORDER BY d.average_rating DESC, d.created_at DESC, d.id DESC
+			LIMIT ? OFFSET ?;
+			""";
+
+	static final String SAVE_RATING = """
+			INSERT INTO driver_rating (ride_id, user_id, driver_id, score, created_at)
+			VALUES (?, ?, ?, ?, ?)
+			ON CONFLICT (ride_id, user_id) DO NOTHING;
+			""";
+
+	/**
+	 * Claims a batch of pending rating events, marks them aggregated and adds their counts and scores to the drivers
+	 * in one statement, so concurrent aggregators skip each other's rows and increments never overwrite each other.
+	 */
+	static final String APPLY_RATINGS = """
+			WITH batch AS (
+			    SELECT ride_id, user_id
+			    FROM driver_rating
+			    WHERE NOT aggregated
+			    ORDER BY created_at
+			    LIMIT ?
+			    FOR UPDATE SKIP LOCKED
+			), applied AS (
+			    UPDATE driver_rating r
+			    SET aggregated = TRUE
+			    FROM batch b
+			    WHERE r.ride_id = b.ride_id AND r.user_id = b.user_id
+			    RETURNING r.driver_id, r.score
+			), totals AS (
+			    SELECT driver_id, COUNT(*) AS reviews, SUM(score) AS scores
+			    FROM applied
+			    GROUP BY driver_id
+			)
+			UPDATE driver d
+			SET total_reviews = d.total_reviews + t.reviews,
+			    sum_of_scores = d.sum_of_scores + t.scores,
+			    average_rating = (d.sum_of_scores + t.scores)::double precision / (d.total_reviews + t.reviews),
+			    last_updated = now()
+			FROM totals t
+			WHERE d.id = t.driver_id
+			RETURNING d.*;
+			""";
+
 	static final String IS_DRIVER_EXISTS = select().count("user_id")
 			.from("driver").where("user_id = ?").build().sql();
 
-	JetDriverRepository() {
+	JetDriverRepository(Instance<DataSource> dataSource, QueryTelemetry telemetry, PrincipalCache principals, DriverLeaderboard leaderboard) {
 		this.jet = JetQuerious.instance();
+		this.dataSource = telemetry.observe(dataSource.get());
+		this.principals = principals;
+		this.leaderboard = leaderboard;
 	}
 
 	@Override
 	public Result<Integer, Throwable> save(Driver driver) {
 		int totalReviews;
 		int sumOfScores;
+		double average;
 		switch (driver.rating()) {
-			case NoRating ignored -> { totalReviews = 0; sumOfScores = 0; }
-            case Rated rated -> { totalReviews = rated.totalReviews(); sumOfScores = rated.sumOfScores(); }
-        }
+			case NoRating ignored -> { totalReviews = 0; sumOfScores = 0; average = 0; }
+			case Rated rated -> { totalReviews = rated.totalReviews(); sumOfScores = rated.sumOfScores(); average = rated.average(); }
+		}
 
-		return mapTransactionResult(jet.write(SAVE_DRIVER,
+		var result = mapTransactionResult(jet.write(SAVE_DRIVER,
 				driver.id(),
 				driver.userID(),
 				driver.license(),
@@ -132,44 +212,95 @@ public class JetDriverRepository implements DriverRepository {
 				driver.rides(),
 				totalReviews,
 				sumOfScores,
+				average,
 				driver.dates().createdAt(),
 				driver.dates().lastUpdated()
 		));
+		if (result.success())
+			leaderboard.update(driver);
+		return result;
 	}
 
 	@Override
 	public Result<Integer, Throwable> updateLicense(Driver driver) {
-		return mapTransactionResult(
+		var result = mapTransactionResult(
 				jet.write(UPDATE_LICENSE, driver.license().licenseNumber(), driver.dates().lastUpdated(), driver.id())
 		);
+		principals.invalidate(driver);
+		return result;
 	}
 
 	@Override
 	public Result<Integer, Throwable> updateStatus(Driver driver) {
-		return mapTransactionResult(
+		var result = mapTransactionResult(
 				jet.write(UPDATE_STATUS, driver.status(), driver.dates().lastUpdated(), driver.id())
 		);
+		principals.invalidate(driver);
+		if (result.success())
+			leaderboard.update(driver);
+		return result;
 	}
 
 	@Override
 	public Result<Integer, Throwable> updateRides(Driver driver) {
-		return mapTransactionResult(
+		var result = mapTransactionResult(
 				jet.write(UPDATE_RIDES, driver.rides(), driver.dates().lastUpdated(), driver.id())
 		);
+		principals.invalidate(driver);
+		if (result.success())
+			leaderboard.update(driver);
+		return result;
 	}
 
 	@Override
 	public Result<Integer, Throwable> updateRating(Driver driver) {
 		int totalReviews;
 		int sumOfScores;
+		double average;
 		switch (driver.rating()) {
-			case NoRating ignored -> { totalReviews = 0; sumOfScores = 0; }
-			case Rated rated -> { totalReviews = rated.totalReviews(); sumOfScores = rated.sumOfScores(); }
+			case NoRating ignored -> { totalReviews = 0; sumOfScores = 0; average = 0; }
+			case Rated rated -> { totalReviews = rated.totalReviews(); sumOfScores = rated.sumOfScores(); average = rated.average(); }
 		}
 
-		return mapTransactionResult(
-				jet.write(UPDATE_RATING, totalReviews, sumOfScores, driver.dates().lastUpdated(), driver.id())
+		var result = mapTransactionResult(
+				jet.write(UPDATE_RATING, totalReviews, sumOfScores, average, driver.dates().lastUpdated(), driver.id())
 		);
+		principals.invalidate(driver);
+		if (result.success())
+			leaderboard.update(driver);
+		return result;
+	}
+
+	@Override
+	public Result<Integer, Throwable> saveRating(DriverRatingEvent rating) {
+		return mapTransactionResult(jet.write(SAVE_RATING,
+				rating.rideID(),
+				rating.userID(),
+				rating.driverID(),
+				rating.score(),
+				rating.createdAt()
+		));
+	}
+
+	@Override
+	public Result<List<Driver>, Throwable> applyRatings(int limit) {
+		List<Driver> drivers = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement statement = connection.prepareStatement(APPLY_RATINGS)) {
+
+			statement.setInt(1, limit);
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) drivers.add(driverMapper(rs));
+			}
+		} catch (SQLException e) {
+			return Result.failure(e);
+		}
+
+		for (Driver driver : drivers) {
+			principals.invalidate(driver);
+			leaderboard.update(driver);
+		}
+		return Result.success(drivers);
 	}
 
 	@Override
@@ -185,20 +316,48 @@ public class JetDriverRepository implements DriverRepository {
 	}
 
 	@Override
-	public Result<List<DriverDTO>, Throwable> page(PageRequest page) {
+	public Result<List<DriverDTO>, Throwable> page(Pageable page) {
+		Optional<List<String>> after = page.after();
+		if (after.isPresent()) {
+			Object[] key = driverKey(after.get());
+			var result = jet.readListOf(PAGE_AFTER, this::driverDTOMapper, key[0], key[1], key[2], page.limit(), page.offset());
+			return new Result<>(result.value(), result.throwable(), result.success());
+		}
+
 		var result = jet.readListOf(PAGE, this::driverDTOMapper, page.limit(), page.offset());
 		return new Result<>(result.value(), result.throwable(), result.success());
 	}
 
+	@Override
+	public Result<List<Driver>, Throwable> topAvailable(int limit) {
+		var result = jet.readListOf(TOP_AVAILABLE, this::driverMapper, limit, 0);
+		return new Result<>(result.value(), result.throwable(), result.success());
+	}
+
 	private DriverDTO driverDTOMapper(ResultSet rs) throws SQLException {
 		return new DriverDTO(
 				rs.getString("id"),
 				rs.getInt("rides"),
 				rs.getInt("total_reviews"),
-				rs.getDouble("average")
+				rs.getDouble("average"),
+				rs.getTimestamp("created_at").toLocalDateTime()
 		);
 	}
 
+	/**
+	 * @return average rating, creation time and id of the last driver of the previous page, as bound to {@link #PAGE_AFTER}
+	 */
+	private static Object[] driverKey(List<String> key) {
+		try {
+			if (key.size() != 3)
+				throw new IllegalArgumentException("Expected rating, creation time and id.");
+
+			return new Object[]{Double.parseDouble(key.get(0)), LocalDateTime.parse(key.get(1)), UUID.fromString(key.get(2))};
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new IllegalDomainArgumentException("Invalid cursor");
+		}
+	}
+
 	@Override
 	public boolean isLicenseExists(DriverLicense license) {
 		return jet.readObjectOf(IS_LICENSE_EXISTS, Integer.class, license)
@@ -0,0 +1,162 @@
+package org.project.infrastructure.repository;
+
+import com.hadzhy.jetquerious.jdbc.JetQuerious;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.repositories.NotificationRepository;
+import org.project.domain.user.value_objects.Notification;
+import org.project.domain.user.value_objects.QueuedNotification;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.hadzhy.jetquerious.sql.QueryForge.*;
+import static org.project.infrastructure.repository.JetOTPRepository.mapTransactionResult;
+
+@ApplicationScoped
+public class JetNotificationRepository implements NotificationRepository {
+
+    private final JetQuerious jet;
+
+    private final DataSource dataSource;
+
+    static final int MAX_ERROR_LENGTH = 256;
+
+    static final String ENQUEUE = insert()
+            .into("notification_outbox")
+            .columns(
+                    "id",
+                    "channel",
+                    "recipient",
+                    "subject",
+                    "body",
+                    "next_attempt_at",
+                    "created_at"
+            )
+            .values()
+            .build()
+            .sql();
+
+    static final String CLAIM = """
+            UPDATE notification_outbox n
+            SET next_attempt_at = now() + make_interval(secs => ?)
+            FROM (
+                SELECT id
+                FROM notification_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) due
+            WHERE n.id = due.id
+            RETURNING n.id, n.channel, n.recipient, n.subject, n.body, n.attempts;
+            """;
+
+    static final String REMOVE = """
+            DELETE FROM notification_outbox
+            WHERE id = ANY (?);
+            """;
+
+    static final String RETRY = update("notification_outbox")
+            .set("attempts = ?, next_attempt_at = ?, last_error = ?")
+            .where("id = ?")
+            .build()
+            .sql();
+
+    static final String FAIL = update("notification_outbox")
+            .set("status = 'FAILED', attempts = ?, last_error = ?")
+            .where("id = ?")
+            .build()
+            .sql();
+
+    JetNotificationRepository(Instance<DataSource> dataSource, QueryTelemetry telemetry) {
+        this.jet = JetQuerious.instance();
+        this.dataSource = telemetry.observe(dataSource.get());
+    }
+
+    @Override
+    public Result<Integer, Throwable> enqueue(Notification notification) {
+        LocalDateTime now = LocalDateTime.now();
+        return mapTransactionResult(jet.write(ENQUEUE,
+                notification.id().toString(),
+                notification.channel().name(),
+                notification.recipient(),
+                notification.subject(),
+                notification.body(),
+                now,
+                now));
+    }
+
+    @Override
+    public Result<List<QueuedNotification>, Throwable> claim(int limit, int leaseSeconds) {
+        List<QueuedNotification> claimed = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(CLAIM)) {
+
+            statement.setInt(1, leaseSeconds);
+            statement.setInt(2, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) claimed.add(queuedNotificationMapper(rs));
+            }
+        } catch (SQLException e) {
+            return Result.failure(e);
+        }
+
+        return Result.success(claimed);
+    }
+
+    @Override
+    public Result<Integer, Throwable> remove(List<UUID> ids) {
+        if (ids.isEmpty())
+            return Result.success(0);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(REMOVE)) {
+
+            Array array = connection.createArrayOf("bpchar", ids.stream().map(UUID::toString).toArray());
+            statement.setArray(1, array);
+            return Result.success(statement.executeUpdate());
+        } catch (SQLException e) {
+            return Result.failure(e);
+        }
+    }
+
+    @Override
+    public Result<Integer, Throwable> retry(UUID id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        return mapTransactionResult(jet.write(RETRY, attempts, nextAttemptAt, truncate(error), id.toString()));
+    }
+
+    @Override
+    public Result<Integer, Throwable> fail(UUID id, int attempts, String error) {
+        return mapTransactionResult(jet.write(FAIL, attempts, truncate(error), id.toString()));
+    }
+
+    private QueuedNotification queuedNotificationMapper(ResultSet rs) throws SQLException {
+        return new QueuedNotification(
+                new Notification(
+                        UUID.fromString(rs.getString("id")),
+                        Notification.Channel.valueOf(rs.getString("channel")),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("body")
+                ),
+                rs.getInt("attempts")
+        );
+    }
+
+    private static String truncate(String error) {
+        if (error == null)
+            return "unknown";
+
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -1,20 +1,27 @@
 package org.project.infrastructure.repository;
 
 import com.hadzhy.jetquerious.jdbc.JetQuerious;
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.project.domain.shared.containers.Result;
 import org.project.domain.user.entities.OTP;
 import org.project.domain.user.repositories.OTPRepository;
+import org.project.domain.user.value_objects.Notification;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static com.hadzhy.jetquerious.sql.QueryForge.*;
 
+/**
+ * OTPs in the {@code otp} table, used unless {@code otp.store=redis}.
+ */
 @ApplicationScoped
+@UnlessBuildProperty(name = "otp.store", stringValue = "redis", enableIfMissing = true)
 public class JetOTPRepository implements OTPRepository {
 
     private final JetQuerious jet;
@@ -30,6 +37,21 @@ public class JetOTPRepository implements OTPRepository {
             .build()
             .sql();
 
+    /**
+     * Stores the OTP and queues its delivery in one statement, so an OTP is never saved without its message
+     * and a message is never sent for an OTP that was not saved.
+     */
+    static final String SAVE_OTP_WITH_NOTIFICATION = """
+            WITH saved AS (
+                INSERT INTO otp (otp, user_id, is_confirmed, creation_date, expiration_date)
+                VALUES (?, ?, ?, ?, ?)
+                RETURNING otp
+            )
+            INSERT INTO notification_outbox (id, channel, recipient, subject, body, next_attempt_at, created_at)
+            SELECT ?, ?, ?, ?, ?, ?, ?
+            FROM saved;
+            """;
+
     static final String UPDATE_CONFIRMATION = update("otp")
             .set("is_confirmed = ?")
             .where("otp = ?")
@@ -77,6 +99,24 @@ public class JetOTPRepository implements OTPRepository {
                 otp.expirationDate()));
     }
 
+    @Override
+    public Result<Integer, Throwable> save(OTP otp, Notification notification) {
+        LocalDateTime now = LocalDateTime.now();
+        return mapTransactionResult(jet.write(SAVE_OTP_WITH_NOTIFICATION,
+                otp.otp(),
+                otp.userID().toString(),
+                otp.isConfirmed(),
+                otp.creationDate(),
+                otp.expirationDate(),
+                notification.id().toString(),
+                notification.channel().name(),
+                notification.recipient(),
+                notification.subject(),
+                notification.body(),
+                now,
+                now));
+    }
+
     @Override
     public Result<Integer, Throwable> updateConfirmation(OTP otp) {
         return mapTransactionResult(jet.write(UPDATE_CONFIRMATION, otp.isConfirmed(), otp.otp()));
@@ -12,9 +12,12 @@ import org.project.domain.shared.containers.Result;
 import org.project.domain.shared.value_objects.Pageable;
 import org.project.domain.shared.value_objects.UserID;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 import static com.hadzhy.jetquerious.sql.QueryForge.insert;
 import static com.hadzhy.jetquerious.sql.QueryForge.select;
@@ -49,6 +52,16 @@ public class JetRideContractRepository implements RideContractRepository {
             .all()
             .from("ride_contract")
             .where("ride_id = ?")
+            .orderBy("id ASC")
+            .limitAndOffset()
+            .sql();
+
+    static final String FIND_BY_RIDE_ID_AFTER = select()
+            .all()
+            .from("ride_contract")
+            .where("ride_id = ?")
+            .and("id > ?")
+            .orderBy("id ASC")
             .limitAndOffset()
             .sql();
 
@@ -56,6 +69,16 @@ public class JetRideContractRepository implements RideContractRepository {
             .all()
             .from("ride_contract")
             .where("user_id = ?")
+            .orderBy("id ASC")
+            .limitAndOffset()
+            .sql();
+
+    static final String FIND_BY_USER_ID_AFTER = select()
+            .all()
+            .from("ride_contract")
+            .where("user_id = ?")
+            .and("id > ?")
+            .orderBy("id ASC")
             .limitAndOffset()
             .sql();
 
@@ -89,6 +112,22 @@ public class JetRideContractRepository implements RideContractRepository {
         ));
     }
 
+    /**
+     * Inserts the contract on the caller's connection, so that it commits or rolls back with the caller's transaction.
+     */
+    int save(Connection connection, RideContract rideContract) throws SQLException, JsonProcessingException {
+        String bookedSeats = objectMapper.writeValueAsString(rideContract.bookedSeats().bookedSeats());
+
+        try (PreparedStatement statement = connection.prepareStatement(RIDE_CONTRACT)) {
+            statement.setString(1, rideContract.id().value().toString());
+            statement.setString(2, rideContract.userID().value().toString());
+            statement.setString(3, rideContract.rideID().value().toString());
+            statement.setBigDecimal(4, rideContract.pricePerSeat().amount());
+            statement.setString(5, bookedSeats);
+            return statement.executeUpdate();
+        }
+    }
+
     @Override
     public Result<RideContract, Throwable> findBy(RideContractID rideContractID) {
         return mapResult(jet.read(FIND_BY_ID, this::mapRideContract, rideContractID));
@@ -96,11 +135,19 @@ public class JetRideContractRepository implements RideContractRepository {
 
     @Override
     public Result<List<RideContract>, Throwable> findBy(RideID rideID, Pageable page) {
+        Optional<String> after = page.after().map(List::getFirst);
+        if (after.isPresent())
+            return mapPageResult(jet.readListOf(FIND_BY_RIDE_ID_AFTER, this::mapRideContract, rideID, after.get(), page.limit(), page.offset()));
+
         return mapPageResult(jet.readListOf(FIND_BY_RIDE_ID, this::mapRideContract, rideID, page.limit(), page.offset()));
     }
 
     @Override
     public Result<List<RideContract>, Throwable> findBy(UserID userID, Pageable page) {
+        Optional<String> after = page.after().map(List::getFirst);
+        if (after.isPresent())
+            return mapPageResult(jet.readListOf(FIND_BY_USER_ID_AFTER, this::mapRideContract, userID, after.get(), page.limit(), page.offset()));
+
         return mapPageResult(jet.readListOf(FIND_BY_USER_ID, this::mapRideContract, userID, page.limit(), page.offset()));
     }
 
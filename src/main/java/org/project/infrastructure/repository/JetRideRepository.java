@@ -1,26 +1,39 @@
 package org.project.infrastructure.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hadzhy.jetquerious.jdbc.JetQuerious;
-import com.hadzhy.jetquerious.sql.Order;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import org.project.application.dto.ride.RideDTO;
 import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.entities.RideContract;
 import org.project.domain.ride.enumerations.RideRule;
 import org.project.domain.ride.enumerations.RideStatus;
-import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.exceptions.SeatConflictException;
 import org.project.domain.ride.repositories.RideRepository;
 import org.project.domain.ride.value_object.*;
 import org.project.domain.shared.containers.Result;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
 import org.project.domain.shared.value_objects.*;
+import org.project.infrastructure.geo.GeoHash;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
 
 import static com.hadzhy.jetquerious.sql.QueryForge.*;
 import static org.project.infrastructure.repository.JetOTPRepository.mapTransactionResult;
@@ -30,7 +43,11 @@ public class JetRideRepository implements RideRepository {
 
     private final JetQuerious jet;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DataSource dataSource;
+
+    private final JetRideContractRepository contracts;
+
+    private static final RideRule[] RIDE_RULES = RideRule.values();
 
     static final String RIDE = insert()
             .into("ride")
@@ -48,33 +65,39 @@ public class JetRideRepository implements RideRepository {
                     "start_time",
                     "end_time",
                     "price",
-                    "seats",
+                    "seat_rows",
+                    "seat_columns",
+                    "male_seats",
+                    "female_seats",
+                    "child_seats",
                     "status",
                     "description",
                     "rules",
                     "creation_date",
                     "last_updated",
                     "has_active_contract",
-                    "fee"
+                    "fee",
+                    "from_geohash",
+                    "to_geohash"
             )
             .values()
             .build()
             .sql();
 
     static final String UPDATE_BOOKING = update("ride")
-            .set("seats = ?, has_active_contract = ?, fee = ?, last_updated = ?")
-            .where("id = ?")
+            .set("male_seats = ?, female_seats = ?, child_seats = ?, has_active_contract = ?, fee = ?, last_updated = ?, version = version + 1")
+            .where("id = ? AND version = ?")
             .build()
             .sql();
 
     static final String UPDATE_STATUS = update("ride")
-            .set("status = ?, last_updated = ?")
+            .set("status = ?, last_updated = ?, version = version + 1")
             .where("id = ?")
             .build()
             .sql();
 
     static final String UPDATE_RULES = update("ride")
-            .set("rules = ?, last_updated = ?")
+            .set("rules = ?, last_updated = ?, version = version + 1")
             .where("id = ?")
             .build()
             .sql();
@@ -103,7 +126,29 @@ public class JetRideRepository implements RideRepository {
             .from("ride r")
             .join("ride_contract rc", "r.id = rc.ride_id")
             .where("rc.user_id = ?")
-            .orderBy("r.start_time", Order.DESC)
+            .orderBy("r.start_time DESC, r.id DESC")
+            .limitAndOffset()
+            .sql();
+
+    static final String FIND_BY_USER_ID_AFTER = select()
+            .column("r.id").as("id")
+            .column("r.driver_id").as("driver_id")
+            .column("r.owner_id").as("owner_id")
+            .column("r.from_location_desc").as("from_location_desc")
+            .column("r.from_latitude").as("from_latitude")
+            .column("r.from_longitude").as("from_longitude")
+            .column("r.to_location_desc").as("to_location_desc")
+            .column("r.to_latitude").as("to_latitude")
+            .column("r.to_longitude").as("to_longitude")
+            .column("r.start_time").as("start_time")
+            .column("r.end_time").as("end_time")
+            .column("r.price").as("price")
+            .column("r.status").as("status")
+            .from("ride r")
+            .join("ride_contract rc", "r.id = rc.ride_id")
+            .where("rc.user_id = ?")
+            .and("(r.start_time, r.id) < (?, ?)")
+            .orderBy("r.start_time DESC, r.id DESC")
             .limitAndOffset()
             .sql();
 
@@ -123,6 +168,28 @@ public class JetRideRepository implements RideRepository {
             .column("status")
             .from("ride")
             .where("owner_id = ?")
+            .orderBy("start_time DESC, id DESC")
+            .limitAndOffset()
+            .sql();
+
+    static final String FIND_BY_OWNER_ID_AFTER = select()
+            .column("id")
+            .column("driver_id")
+            .column("owner_id")
+            .column("from_location_desc")
+            .column("from_latitude")
+            .column("from_longitude")
+            .column("to_location_desc")
+            .column("to_latitude")
+            .column("to_longitude")
+            .column("start_time")
+            .column("end_time")
+            .column("price")
+            .column("status")
+            .from("ride")
+            .where("owner_id = ?")
+            .and("(start_time, id) < (?, ?)")
+            .orderBy("start_time DESC, id DESC")
             .limitAndOffset()
             .sql();
 
@@ -142,6 +209,28 @@ public class JetRideRepository implements RideRepository {
             .column("status")
             .from("ride")
             .where("driver_id = ?")
+            .orderBy("start_time DESC, id DESC")
+            .limitAndOffset()
+            .sql();
+
+    static final String FIND_BY_DRIVER_ID_AFTER = select()
+            .column("id")
+            .column("driver_id")
+            .column("owner_id")
+            .column("from_location_desc")
+            .column("from_latitude")
+            .column("from_longitude")
+            .column("to_location_desc")
+            .column("to_latitude")
+            .column("to_longitude")
+            .column("start_time")
+            .column("end_time")
+            .column("price")
+            .column("status")
+            .from("ride")
+            .where("driver_id = ?")
+            .and("(start_time, id) < (?, ?)")
+            .orderBy("start_time DESC, id DESC")
             .limitAndOffset()
             .sql();
 
@@ -160,11 +249,13 @@ public class JetRideRepository implements RideRepository {
             .column("price")
             .column("status")
             .from("ride")
-            .where("CAST(start_time AS DATE) = CAST(? AS DATE)")
+            .where("start_time >= ?")
+            .and("start_time < ?")
+            .orderBy("start_time ASC, id ASC")
             .limitAndOffset()
             .sql();
 
-    static final String ACTUAL_FOR = select()
+    static final String FIND_BY_DATE_AFTER = select()
             .column("id")
             .column("driver_id")
             .column("owner_id")
@@ -178,32 +269,61 @@ public class JetRideRepository implements RideRepository {
             .column("end_time")
             .column("price")
             .column("status")
-            .column("POWER(from_latitude - ?, 2) + POWER(from_longitude - ?, 2)").as("start_distance_sq")
-            .column("POWER(to_latitude - ?, 2) + POWER(to_longitude - ?, 2)").as("end_distance_sq")
             .from("ride")
             .where("start_time >= ?")
-            .and("POWER(from_latitude - ?, 2) + POWER(from_longitude - ?, 2) <= ?")
-            .and("POWER(to_latitude - ?, 2) + POWER(to_longitude - ?, 2) <= ?")
-            .and("status = 'PENDING'")
+            .and("start_time < ?")
+            .and("(start_time, id) > (?, ?)")
+            .orderBy("start_time ASC, id ASC")
+            .limitAndOffset()
+            .sql();
+
+    static final String ACTUAL_FOR = select()
+            .column("id")
+            .column("driver_id")
+            .column("owner_id")
+            .column("from_location_desc")
+            .column("from_latitude")
+            .column("from_longitude")
+            .column("to_location_desc")
+            .column("to_latitude")
+            .column("to_longitude")
+            .column("start_time")
+            .column("end_time")
+            .column("price")
+            .column("status")
+            .from("ride")
+            .where("status = 'PENDING'")
+            .and("start_time >= ?")
+            .and(geohashCells("from_geohash"))
+            .and(geohashCells("to_geohash"))
+            .and("from_latitude BETWEEN ? AND ?")
+            .and("from_longitude BETWEEN ? AND ?")
+            .and("to_latitude BETWEEN ? AND ?")
+            .and("to_longitude BETWEEN ? AND ?")
+            .and(greatCircleKm("from") + " <= ?")
+            .and(greatCircleKm("to") + " <= ?")
+            .orderBy("start_time ASC, id ASC")
+            .limitAndOffset()
+            .sql();
+
+    static final String UPCOMING = select()
+            .all()
+            .from("ride")
+            .where("status = 'PENDING'")
+            .and("start_time > ?")
             .orderBy("start_time ASC")
             .limitAndOffset()
             .sql();
 
-    JetRideRepository() {
+    JetRideRepository(Instance<DataSource> dataSource, QueryTelemetry telemetry, JetRideContractRepository contracts) {
         this.jet = JetQuerious.instance();
+        this.dataSource = telemetry.observe(dataSource.get());
+        this.contracts = contracts;
     }
 
     @Override
     public Result<Integer, Throwable> save(Ride ride) {
-        String seats;
-        String rules;
-        try {
-            seats = objectMapper.writeValueAsString(ride.seatMap().seats());
-            rules = objectMapper.writeValueAsString(ride.rideRules());
-        } catch (JsonProcessingException e) {
-            return Result.failure(e);
-        }
-
+        SeatMap seatMap = ride.seatMap();
         Location from = ride.route().from();
         Location to = ride.route().to();
 
@@ -221,27 +341,73 @@ public class JetRideRepository implements RideRepository {
                 ride.rideTime().startOfTheTrip(),
                 ride.rideTime().endOfTheTrip(),
                 ride.price(),
-                seats,
+                seatMap.rowCount(),
+                seatMap.columnCount(),
+                seatMap.maleSeats(),
+                seatMap.femaleSeats(),
+                seatMap.childSeats(),
                 ride.status(),
                 ride.rideDesc(),
-                rules,
+                rulesMask(ride.rideRules()),
                 ride.dates().createdAt(),
                 ride.dates().lastUpdated(),
                 ride.hasActiveContract(),
-                ride.fee()));
+                ride.fee(),
+                GeoHash.encode(from.latitude(), from.longitude()),
+                GeoHash.encode(to.latitude(), to.longitude())));
     }
 
+    /**
+     * Fails with a {@link SeatConflictException} if the ride row changed since it was loaded.
+     */
     @Override
     public Result<Integer, Throwable> updateSeats(Ride ride) {
-        String seats;
-        try {
-            seats = objectMapper.writeValueAsString(ride.seatMap().seats());
-        } catch (JsonProcessingException e) {
+        SeatMap seatMap = ride.seatMap();
+        Result<Integer, Throwable> result = mapTransactionResult(jet.write(UPDATE_BOOKING,
+                seatMap.maleSeats(), seatMap.femaleSeats(), seatMap.childSeats(), ride.hasActiveContract(),
+                ride.fee(), ride.dates().lastUpdated(), ride.id(), ride.version()));
+
+        if (result.success() && result.value() == 0)
+            return Result.failure(new SeatConflictException("Seats of ride " + ride.id().value() + " changed concurrently."));
+
+        return result;
+    }
+
+    @Override
+    public Result<Integer, Throwable> book(Ride ride, RideContract rideContract) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            boolean committed = false;
+            try {
+                if (updateBooking(connection, ride) == 0)
+                    return Result.success(0);
+
+                contracts.save(connection, rideContract);
+                connection.commit();
+                committed = true;
+                return Result.success(1);
+            } finally {
+                if (!committed)
+                    connection.rollback();
+            }
+        } catch (SQLException | JsonProcessingException | RuntimeException e) {
             return Result.failure(e);
         }
+    }
 
-        return mapTransactionResult(jet.write(UPDATE_BOOKING, seats, ride.hasActiveContract(),
-                ride.fee(), ride.dates().lastUpdated(), ride.id()));
+    private static int updateBooking(Connection connection, Ride ride) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_BOOKING)) {
+            SeatMap seatMap = ride.seatMap();
+            statement.setLong(1, seatMap.maleSeats());
+            statement.setLong(2, seatMap.femaleSeats());
+            statement.setLong(3, seatMap.childSeats());
+            statement.setBoolean(4, ride.hasActiveContract());
+            statement.setBigDecimal(5, ride.fee().value());
+            statement.setTimestamp(6, Timestamp.valueOf(ride.dates().lastUpdated()));
+            statement.setString(7, ride.id().value().toString());
+            statement.setLong(8, ride.version());
+            return statement.executeUpdate();
+        }
     }
 
     @Override
@@ -251,105 +417,186 @@ public class JetRideRepository implements RideRepository {
 
     @Override
     public Result<Integer, Throwable> updateRules(Ride ride) {
-        String rules;
-        try {
-            rules = objectMapper.writeValueAsString(ride.rideRules());
-        } catch (JsonProcessingException e) {
-            return Result.failure(e);
-        }
-
-        return mapTransactionResult(jet.write(UPDATE_RULES, rules, ride.dates().lastUpdated(), ride.id()));
+        return mapTransactionResult(jet.write(UPDATE_RULES, rulesMask(ride.rideRules()), ride.dates().lastUpdated(), ride.id()));
     }
 
     @Override
     public Result<Ride, Throwable> findBy(RideID rideID) {
-        return mapRideResult(jet.read(FIND_BY_ID, this::mapRide, rideID));
+        return mapRideResult(jet.read(FIND_BY_ID, JetRideRepository::mapRide, rideID));
     }
 
     @Override
     public Result<List<RideDTO>, Throwable> pageOf(UserID userID, Pageable page) {
+        Optional<List<String>> after = page.after();
+        if (after.isPresent()) {
+            Object[] key = rideKey(after.get());
+            return mapPageRideResult(jet.readListOf(FIND_BY_USER_ID_AFTER, this::mapRideDTO, userID, key[0], key[1], page.limit(), page.offset()));
+        }
+
         return mapPageRideResult(jet.readListOf(FIND_BY_USER_ID, this::mapRideDTO, userID, page.limit(), page.offset()));
     }
 
     @Override
     public Result<List<RideDTO>, Throwable> pageOf(OwnerID ownerID, Pageable page) {
+        Optional<List<String>> after = page.after();
+        if (after.isPresent()) {
+            Object[] key = rideKey(after.get());
+            return mapPageRideResult(jet.readListOf(FIND_BY_OWNER_ID_AFTER, this::mapRideDTO, ownerID, key[0], key[1], page.limit(), page.offset()));
+        }
+
         return mapPageRideResult(jet.readListOf(FIND_BY_OWNER_ID, this::mapRideDTO, ownerID, page.limit(), page.offset()));
     }
 
     @Override
     public Result<List<RideDTO>, Throwable> pageOf(DriverID driverID, Pageable page) {
+        Optional<List<String>> after = page.after();
+        if (after.isPresent()) {
+            Object[] key = rideKey(after.get());
+            return mapPageRideResult(jet.readListOf(FIND_BY_DRIVER_ID_AFTER, this::mapRideDTO, driverID, key[0], key[1], page.limit(), page.offset()));
+        }
+
         return mapPageRideResult(jet.readListOf(FIND_BY_DRIVER_ID, this::mapRideDTO, driverID, page.limit(), page.offset()));
     }
 
     @Override
     public Result<List<RideDTO>, Throwable> pageOf(LocalDate localDate, Pageable page) {
-        return mapPageRideResult(jet.readListOf(FIND_BY_DATE, this::mapRideDTO, localDate, page.limit(), page.offset()));
+        LocalDateTime dayStart = localDate.atStartOfDay();
+        LocalDateTime dayEnd = localDate.plusDays(1).atStartOfDay();
+        Optional<List<String>> after = page.after();
+        if (after.isPresent()) {
+            Object[] key = rideKey(after.get());
+            return mapPageRideResult(jet.readListOf(FIND_BY_DATE_AFTER, this::mapRideDTO, dayStart, dayEnd, key[0], key[1], page.limit(), page.offset()));
+        }
+
+        return mapPageRideResult(jet.readListOf(FIND_BY_DATE, this::mapRideDTO, dayStart, dayEnd, page.limit(), page.offset()));
     }
 
     @Override
-    public Result<List<RideDTO>, Throwable> actualFor(Location startPoint, Location destination, LocalDate date, Pageable page) {
-        double startLatitude = startPoint.latitude();
-        double startLongitude = startPoint.longitude();
-        double endLatitude = destination.latitude();
-        double endLongitude = destination.longitude();
-
-        return mapPageRideResult(jet.readListOf(ACTUAL_FOR, this::mapRideDTO,
-                startLatitude, startLongitude, endLatitude, endLongitude, date,
-                startLatitude, startLongitude, 5 * 5, endLatitude, endLongitude, 5 * 5,
-                page.limit(), page.offset()
-        ));
+    public Result<List<RideDTO>, Throwable> actualFor(Location startPoint, Location destination, SearchRadius radius,
+                                                      LocalDate date, Pageable page) {
+        double radiusKm = radius.kilometres();
+        String[] startCells = GeoHash.cover(startPoint.latitude(), startPoint.longitude(), radiusKm);
+        String[] endCells = GeoHash.cover(destination.latitude(), destination.longitude(), radiusKm);
+        GeoHash.BoundingBox startBox = GeoHash.boundingBox(startPoint.latitude(), startPoint.longitude(), radiusKm);
+        GeoHash.BoundingBox endBox = GeoHash.boundingBox(destination.latitude(), destination.longitude(), radiusKm);
+
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object> params = new ArrayList<>();
+        params.add(dayStart.isAfter(now) ? dayStart : now);
+        for (String cell : startCells) params.add(cell + "%");
+        for (String cell : endCells) params.add(cell + "%");
+        Collections.addAll(params, startBox.minLatitude(), startBox.maxLatitude(), startBox.minLongitude(), startBox.maxLongitude());
+        Collections.addAll(params, endBox.minLatitude(), endBox.maxLatitude(), endBox.minLongitude(), endBox.maxLongitude());
+        Collections.addAll(params, startPoint.latitude(), startPoint.latitude(), startPoint.longitude(), radiusKm);
+        Collections.addAll(params, destination.latitude(), destination.latitude(), destination.longitude(), radiusKm);
+        params.add(page.limit());
+        params.add(page.offset());
+
+        return mapPageRideResult(jet.readListOf(ACTUAL_FOR, this::mapRideDTO, params.toArray()));
+    }
+
+    @Override
+    public Result<List<Ride>, Throwable> upcoming(int limit) {
+        return mapRidesResult(jet.readListOf(UPCOMING, JetRideRepository::mapRide, LocalDateTime.now(), limit, 0));
+    }
+
+    /**
+     * Matches a geohash column against the {@link GeoHash#COVER_CELLS} prefixes covering the search radius.
+     */
+    private static String geohashCells(String column) {
+        StringJoiner cells = new StringJoiner(" OR ", "(", ")");
+        for (int i = 0; i < GeoHash.COVER_CELLS; i++) cells.add(column + " LIKE ?");
+        return cells.toString();
+    }
+
+    /**
+     * Haversine distance in kilometres between the given ride point and a (latitude, latitude, longitude) parameter triple.
+     */
+    private static String greatCircleKm(String point) {
+        return ("2 * %1$s * ASIN(LEAST(1, SQRT(" +
+                "POWER(SIN(RADIANS(%2$s_latitude - ?) / 2), 2) + " +
+                "COS(RADIANS(?)) * COS(RADIANS(%2$s_latitude)) * POWER(SIN(RADIANS(%2$s_longitude - ?) / 2), 2))))")
+                .formatted(GeoHash.EARTH_RADIUS_KM, point);
+    }
+
+    static Ride mapRide(ResultSet rs) throws SQLException {
+        SeatMap seatMap = SeatMap.of(
+                rs.getShort("seat_rows"),
+                rs.getShort("seat_columns"),
+                rs.getLong("male_seats"),
+                rs.getLong("female_seats"),
+                rs.getLong("child_seats")
+        );
+
+        String ownerID = rs.getString("owner_id");
+        RideOwner rideOwner = new RideOwner(
+                DriverID.fromString(rs.getString("driver_id")),
+                ownerID == null ? null : OwnerID.fromString(ownerID)
+        );
+
+        Route route = new Route(
+                new Location(rs.getString("from_location_desc"), rs.getDouble("from_latitude"), rs.getDouble("from_longitude")),
+                new Location(rs.getString("to_location_desc"), rs.getDouble("to_latitude"), rs.getDouble("to_longitude"))
+        );
+
+        RideTime rideTime = new RideTime(
+                rs.getTimestamp("start_time").toLocalDateTime(),
+                rs.getTimestamp("end_time").toLocalDateTime()
+        );
+
+        Dates dates = new Dates(
+                rs.getTimestamp("creation_date").toLocalDateTime(),
+                rs.getTimestamp("last_updated").toLocalDateTime()
+        );
+
+        return Ride.fromRepository(
+                RideID.fromString(rs.getString("id")),
+                CarID.fromString(rs.getString("car_id")),
+                rideOwner,
+                route,
+                rideTime,
+                new Price(rs.getBigDecimal("price")),
+                seatMap,
+                RideStatus.valueOf(rs.getString("status")),
+                new RideDesc(rs.getString("description")),
+                rulesOf(rs.getShort("rules")),
+                dates,
+                rs.getBoolean("has_active_contract"),
+                new Fee(rs.getBigDecimal("fee")),
+                rs.getLong("version")
+        );
     }
 
-    private Ride mapRide(ResultSet rs) throws SQLException {
+    /**
+     * Ride rules are stored as a bitmask indexed by {@link RideRule} ordinal, so new rules must be appended to the enum.
+     */
+    static short rulesMask(Set<RideRule> rules) {
+        int mask = 0;
+        for (RideRule rule : rules) mask |= 1 << rule.ordinal();
+        return (short) mask;
+    }
+
+    static Set<RideRule> rulesOf(short mask) {
+        Set<RideRule> rules = EnumSet.noneOf(RideRule.class);
+        for (RideRule rule : RIDE_RULES) {
+            if ((mask & (1 << rule.ordinal())) != 0) rules.add(rule);
+        }
+        return rules;
+    }
+
+    /**
+     * @return start time and id of the last ride of the previous page, as bound to the {@code _AFTER} queries
+     */
+    private static Object[] rideKey(List<String> key) {
         try {
-            SeatStatus[][] seatMatrix = objectMapper.readValue(
-                    rs.getString("seats"),
-                    SeatStatus[][].class
-            );
-
-            Set<RideRule> rules = objectMapper.readValue(
-                    rs.getString("rules"),
-                    new TypeReference<>() {}
-            );
-
-            String ownerID = rs.getString("owner_id");
-            RideOwner rideOwner = new RideOwner(
-                    DriverID.fromString(rs.getString("driver_id")),
-                    ownerID == null ? null : OwnerID.fromString(ownerID)
-            );
-
-            Route route = new Route(
-                    new Location(rs.getString("from_location_desc"), rs.getDouble("from_latitude"), rs.getDouble("from_longitude")),
-                    new Location(rs.getString("to_location_desc"), rs.getDouble("to_latitude"), rs.getDouble("to_longitude"))
-            );
-
-            RideTime rideTime = new RideTime(
-                    rs.getTimestamp("start_time").toLocalDateTime(),
-                    rs.getTimestamp("end_time").toLocalDateTime()
-            );
-
-            Dates dates = new Dates(
-                    rs.getTimestamp("creation_date").toLocalDateTime(),
-                    rs.getTimestamp("last_updated").toLocalDateTime()
-            );
-
-            return Ride.fromRepository(
-                    RideID.fromString(rs.getString("id")),
-                    CarID.fromString(rs.getString("car_id")),
-                    rideOwner,
-                    route,
-                    rideTime,
-                    new Price(rs.getBigDecimal("price")),
-                    new SeatMap(seatMatrix),
-                    RideStatus.valueOf(rs.getString("status")),
-                    new RideDesc(rs.getString("description")),
-                    rules,
-                    dates,
-                    rs.getBoolean("has_active_contract"),
-                    new Fee(rs.getBigDecimal("fee"))
-            );
-        } catch (JsonProcessingException e) {
-            throw new SQLException(e);
+            if (key.size() != 2)
+                throw new IllegalArgumentException("Expected start time and id.");
+
+            return new Object[]{LocalDateTime.parse(key.get(0)), UUID.fromString(key.get(1))};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalDomainArgumentException("Invalid cursor");
         }
     }
 
@@ -375,6 +622,10 @@ public class JetRideRepository implements RideRepository {
         return new Result<>(read.value(), read.throwable(), read.success());
     }
 
+    private Result<List<Ride>, Throwable> mapRidesResult(com.hadzhy.jetquerious.util.Result<List<Ride>, Throwable> read) {
+        return new Result<>(read.value(), read.throwable(), read.success());
+    }
+
     private Result<List<RideDTO>, Throwable> mapPageRideResult(com.hadzhy.jetquerious.util.Result<List<RideDTO>, Throwable> read) {
         return new Result<>(read.value(), read.throwable(), read.success());
     }
@@ -20,6 +20,11 @@ import org.project.domain.user.value_objects.PersonalData;
 import org.project.domain.user.value_objects.Phone;
 import org.project.domain.user.value_objects.RefreshToken;
 import org.project.domain.user.value_objects.Identifier;
+import org.project.infrastructure.cache.PrincipalCache;
+import org.project.infrastructure.cache.RefreshTokens;
+import org.project.infrastructure.cache.VerifiedTokens;
+import org.project.infrastructure.security.AccessClaims;
+import org.project.infrastructure.security.Digests;
 
 import com.hadzhy.jetquerious.jdbc.JetQuerious;
 
@@ -31,6 +36,12 @@ public class JetUserRepository implements UserRepository {
 
     private final JetQuerious jet;
 
+    private final PrincipalCache principals;
+
+    private final RefreshTokens refreshTokens;
+
+    private final VerifiedTokens verifiedTokens;
+
     static final String SAVE_USER = insert()
             .into("user_account")
             .column("id")
@@ -53,10 +64,10 @@ public class JetUserRepository implements UserRepository {
 
     static final String SAVE_REFRESH_TOKEN = insert()
             .into("refresh_token")
-            .columns("user_id", "token")
+            .columns("user_id", "token_digest")
             .values()
             .onConflict("user_id")
-            .doUpdateSet("token = ?")
+            .doUpdateSet("token_digest = ?")
             .build()
             .sql();
 
@@ -134,12 +145,15 @@ public class JetUserRepository implements UserRepository {
     static final String REFRESH_TOKEN = select()
             .all()
             .from("refresh_token")
-            .where("token = ?")
+            .where("token_digest = ?")
             .build()
             .sql();
 
-    JetUserRepository() {
-        jet = JetQuerious.instance();
+    JetUserRepository(PrincipalCache principals, RefreshTokens refreshTokens, VerifiedTokens verifiedTokens) {
+        this.jet = JetQuerious.instance();
+        this.principals = principals;
+        this.refreshTokens = refreshTokens;
+        this.verifiedTokens = verifiedTokens;
     }
 
     @Override
@@ -164,54 +178,71 @@ public class JetUserRepository implements UserRepository {
 
     @Override
     public Result<Integer, Throwable> saveRefreshToken(RefreshToken refreshToken) {
-        return mapTransactionResult(jet.write(SAVE_REFRESH_TOKEN,
+        String digest = Digests.sha256(refreshToken.refreshToken());
+        var result = mapTransactionResult(jet.write(SAVE_REFRESH_TOKEN,
                 refreshToken.userID().toString(),
-                refreshToken.refreshToken(),
-                refreshToken.refreshToken()));
+                digest,
+                digest));
+        refreshTokens.rotate(refreshToken.userID(), refreshToken.refreshToken());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> updatePhone(User user) {
-        return mapTransactionResult(
+        var result = mapTransactionResult(
                 jet.write(UPDATE_PHONE,
                         user.personalData().phone().orElseThrow(),
                         user.accountDates().lastUpdated(),
                         user.id().toString()));
+        invalidate(user.id());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> updateCounter(User user) {
-        return mapTransactionResult(jet.write(UPDATE_COUNTER,
+        var result = mapTransactionResult(jet.write(UPDATE_COUNTER,
                 user.keyAndCounter().counter(),
                 user.accountDates().lastUpdated(),
                 user.id().toString()));
+        invalidate(user.id());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> updateVerification(User user) {
-        return mapTransactionResult(jet.write(UPDATE_VERIFICATION,
+        var result = mapTransactionResult(jet.write(UPDATE_VERIFICATION,
                 user.isVerified(),
                 user.accountDates().lastUpdated(),
                 user.id().toString()));
+        invalidate(user.id());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> updateBan(User user) {
-        return mapTransactionResult(
+        var result = mapTransactionResult(
                 jet.write(UPDATE_BAN, user.isBanned(), user.accountDates().lastUpdated(), user.id()));
+        invalidate(user.id());
+        if (user.isBanned())
+            verifiedTokens.invalidate(AccessClaims.from(user).upn());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> update2FA(User user) {
-        return mapTransactionResult(jet.write(UPDATE_2FA, user.is2FAEnabled(), user.accountDates().lastUpdated(), user.id().toString()));
+        var result = mapTransactionResult(jet.write(UPDATE_2FA, user.is2FAEnabled(), user.accountDates().lastUpdated(), user.id().toString()));
+        invalidate(user.id());
+        return result;
     }
 
     @Override
     public Result<Integer, Throwable> updatePassword(User user) {
-        return mapTransactionResult(jet.write(UPDATE_PASSWORD,
+        var result = mapTransactionResult(jet.write(UPDATE_PASSWORD,
                 user.personalData().password().orElse(null),
                 user.accountDates().lastUpdated(),
                 user.id()));
+        invalidate(user.id());
+        return result;
     }
 
     @Override
@@ -262,12 +293,15 @@ public class JetUserRepository implements UserRepository {
 
     @Override
     public Result<RefreshToken, Throwable> findRefreshToken(String refreshToken) {
-        var result = jet.read(REFRESH_TOKEN, this::refreshTokenMapper, refreshToken);
+        var result = jet.read(REFRESH_TOKEN,
+                rs -> new RefreshToken(UUID.fromString(rs.getString("user_id")), refreshToken),
+                Digests.sha256(refreshToken));
         return new Result<>(result.value(), result.throwable(), result.success());
     }
 
-    private RefreshToken refreshTokenMapper(ResultSet rs) throws SQLException {
-        return new RefreshToken(UUID.fromString(rs.getString("user_id")), rs.getString("token"));
+    private void invalidate(UUID userID) {
+        principals.invalidate(userID);
+        refreshTokens.evict(userID);
     }
 
     private User userMapper(ResultSet rs) throws SQLException {
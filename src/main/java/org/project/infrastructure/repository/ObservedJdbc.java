@@ -0,0 +1,165 @@
+package org.project.infrastructure.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC proxies reporting to {@link QueryTelemetry}. Connections hand out statements that time every
+ * {@code execute*} call and remember the types of their bind parameters; result sets count the rows read and report
+ * them when closed. Everything else is passed through untouched.
+ */
+final class ObservedJdbc {
+
+    private static final Set<String> EXECUTIONS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private ObservedJdbc() {}
+
+    @FunctionalInterface
+    interface Execution {
+        Object run() throws Throwable;
+    }
+
+    static DataSource dataSource(DataSource dataSource, QueryTelemetry telemetry) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = delegate(dataSource, method, args);
+            return result instanceof Connection connection ? connection(connection, telemetry) : result;
+        });
+    }
+
+    static Connection connection(Connection connection, QueryTelemetry telemetry) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = delegate(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler((Statement) result, (String) args[0], telemetry));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler((Statement) result, (String) args[0], telemetry));
+                case "createStatement" -> proxy(Statement.class,
+                        new StatementHandler((Statement) result, null, telemetry));
+                default -> result;
+            };
+        });
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+
+        private final String sql;
+
+        private final QueryTelemetry telemetry;
+
+        private final List<String> parameterTypes = new ArrayList<>();
+
+        private String executed = "";
+
+        StatementHandler(Statement statement, String sql, QueryTelemetry telemetry) {
+            this.statement = statement;
+            this.sql = sql;
+            this.telemetry = telemetry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameter(index, name.equals("setNull") ? null : args[1]);
+                return delegate(statement, method, args);
+            }
+
+            if (name.equals("clearParameters"))
+                parameterTypes.clear();
+
+            if (name.equals("getResultSet"))
+                return resultSet((ResultSet) delegate(statement, method, args), executed);
+
+            if (!EXECUTIONS.contains(name))
+                return delegate(statement, method, args);
+
+            executed = sqlOf(args);
+            Object result = telemetry.execute(executed, List.copyOf(parameterTypes), () -> delegate(statement, method, args));
+            if (result instanceof ResultSet resultSet)
+                return resultSet(resultSet, executed);
+
+            if (result instanceof Integer count)
+                telemetry.rows(executed, count);
+            else if (result instanceof Long count)
+                telemetry.rows(executed, count);
+            else if (result instanceof int[] counts)
+                telemetry.rows(executed, sum(counts));
+            else if (result instanceof long[] counts)
+                telemetry.rows(executed, sum(counts));
+            return result;
+        }
+
+        private String sqlOf(Object[] args) {
+            if (sql != null)
+                return sql;
+            return args != null && args.length > 0 && args[0] instanceof String text ? text : "";
+        }
+
+        private void parameter(int index, Object value) {
+            while (parameterTypes.size() < index)
+                parameterTypes.add("?");
+            parameterTypes.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+
+        private ResultSet resultSet(ResultSet resultSet, String executed) {
+            if (resultSet == null)
+                return null;
+
+            long[] read = { 0 };
+            boolean[] reported = { false };
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object result = delegate(resultSet, method, args);
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    read[0]++;
+                } else if (method.getName().equals("close") && !reported[0]) {
+                    reported[0] = true;
+                    telemetry.rows(executed, read[0]);
+                }
+                return result;
+            });
+        }
+
+        private static long sum(int[] counts) {
+            long total = 0;
+            for (int count : counts)
+                total += Math.max(count, 0);
+            return total;
+        }
+
+        private static long sum(long[] counts) {
+            long total = 0;
+            for (long count : counts)
+                total += Math.max(count, 0);
+            return total;
+        }
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ObservedJdbc.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
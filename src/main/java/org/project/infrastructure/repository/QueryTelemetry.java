@@ -0,0 +1,207 @@
+package org.project.infrastructure.repository;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkus.logging.Log;
+import jakarta.inject.Singleton;
+
+/**
+ * Per-statement visibility into the SQL run by the {@code Jet*Repository} classes.
+ * <p>
+ * {@link #observe(DataSource)} wraps the data source handed to {@code JetQuerious} so every statement execution is
+ * timed without touching the call sites. A statement is named after the repository constant holding its SQL, such as
+ * {@code ride.ACTUAL_FOR} or {@code driver.PAGE}; SQL built at runtime falls back to {@code other.{verb}}, which keeps
+ * the names bounded. Each execution records:
+ * <ul>
+ *   <li>{@code db.query.duration} in milliseconds, by statement and outcome</li>
+ *   <li>{@code db.query.rows}, the rows read or written, by statement</li>
+ *   <li>{@code db.query.errors}, by statement</li>
+ *   <li>a client span named after the statement</li>
+ * </ul>
+ * Executions slower than {@code db.slow-query.threshold-millis} are logged with the types of their bind parameters,
+ * never their values, for a {@code db.slow-query.sample-rate} fraction of them.
+ */
+@Singleton
+public class QueryTelemetry {
+
+    static final List<Class<?>> REPOSITORIES = List.of(
+            JetCarRepository.class,
+            JetDriverRepository.class,
+            JetNotificationRepository.class,
+            JetOTPRepository.class,
+            JetOwnerRepository.class,
+            JetRideContractRepository.class,
+            JetRideRepository.class,
+            JetUserRepository.class);
+
+    private static final AttributeKey<String> STATEMENT = AttributeKey.stringKey("db.statement.name");
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+
+    @ConfigProperty(name = "db.slow-query.threshold-millis", defaultValue = "200")
+    long slowThresholdMillis;
+
+    @ConfigProperty(name = "db.slow-query.sample-rate", defaultValue = "1.0")
+    double slowSampleRate;
+
+    private final Tracer tracer;
+
+    private final DoubleHistogram latency;
+
+    private final LongHistogram rows;
+
+    private final LongCounter errors;
+
+    private final Map<String, String> names;
+
+    private final Map<String, Attributes> successes = new ConcurrentHashMap<>();
+
+    private final Map<String, Attributes> failures = new ConcurrentHashMap<>();
+
+    QueryTelemetry(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer("org.project.jdbc");
+        Meter meter = openTelemetry.getMeter("org.project.jdbc");
+        this.latency = meter.histogramBuilder("db.query.duration")
+                .setDescription("Time spent executing a SQL statement, by statement name and outcome")
+                .setUnit("ms")
+                .build();
+        this.rows = meter.histogramBuilder("db.query.rows")
+                .setDescription("Rows read or written by a SQL statement, by statement name")
+                .ofLongs()
+                .build();
+        this.errors = meter.counterBuilder("db.query.errors")
+                .setDescription("SQL statements that failed, by statement name")
+                .build();
+        this.names = statementNames(REPOSITORIES);
+    }
+
+    /**
+     * @return the data source with every statement created through it instrumented
+     */
+    public DataSource observe(DataSource dataSource) {
+        return ObservedJdbc.dataSource(dataSource, this);
+    }
+
+    String nameOf(String sql) {
+        String name = names.get(sql);
+        if (name != null)
+            return name;
+
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end)))
+            end++;
+        return "other." + (end == 0 ? "unknown" : trimmed.substring(0, end).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Runs one execution of the statement inside a span and records its latency, or its failure.
+     */
+    Object execute(String sql, List<String> parameterTypes, ObservedJdbc.Execution execution) throws Throwable {
+        String name = nameOf(sql);
+        Span span = tracer.spanBuilder(name)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("db.system", "postgresql")
+                .setAttribute(STATEMENT, name)
+                .setAttribute("db.query.text", sql)
+                .startSpan();
+
+        long start = System.nanoTime();
+        try (Scope ignored = span.makeCurrent()) {
+            Object result = execution.run();
+            long elapsed = System.nanoTime() - start;
+            latency.record(elapsed / 1_000_000.0, successes.computeIfAbsent(name, QueryTelemetry::success));
+            slow(name, sql, parameterTypes, elapsed);
+            return result;
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - start;
+            Attributes attributes = failures.computeIfAbsent(name, QueryTelemetry::failure);
+            latency.record(elapsed / 1_000_000.0, attributes);
+            errors.add(1, attributes);
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    void rows(String sql, long count) {
+        if (count >= 0)
+            rows.record(count, successes.computeIfAbsent(nameOf(sql), QueryTelemetry::success));
+    }
+
+    void slow(String name, String sql, List<String> parameterTypes, long elapsedNanos) {
+        if (!isLoggedAsSlow(elapsedNanos))
+            return;
+
+        Log.warnf("Slow query %s took %.1f ms with parameters %s: %s",
+                name, elapsedNanos / 1_000_000.0, parameterTypes, sql);
+    }
+
+    boolean isLoggedAsSlow(long elapsedNanos) {
+        if (elapsedNanos < slowThresholdMillis * 1_000_000)
+            return false;
+
+        return slowSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowSampleRate;
+    }
+
+    /**
+     * Names every {@code static final String} of the repositories as {@code {repository}.{FIELD}}, where the
+     * repository name drops {@code Jet} and {@code Repository}. The first constant holding a given SQL wins.
+     */
+    static Map<String, String> statementNames(List<Class<?>> repositories) {
+        Map<String, String> names = new HashMap<>();
+        for (Class<?> repository : repositories) {
+            String simpleName = repository.getSimpleName().replaceFirst("^Jet", "").replaceFirst("Repository$", "");
+            String prefix = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+
+            for (Field field : repository.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers) || field.getType() != String.class)
+                    continue;
+
+                try {
+                    field.trySetAccessible();
+                    Object sql = field.get(null);
+                    if (sql != null)
+                        names.putIfAbsent((String) sql, prefix + "." + field.getName());
+                } catch (IllegalAccessException e) {
+                    Log.debugf("Statement %s.%s is not readable and stays unnamed", repository.getSimpleName(), field.getName());
+                }
+            }
+        }
+        return Map.copyOf(names);
+    }
+
+    private static Attributes success(String name) {
+        return Attributes.of(STATEMENT, name, OUTCOME, "success");
+    }
+
+    private static Attributes failure(String name) {
+        return Attributes.of(STATEMENT, name, OUTCOME, "error");
+    }
+}
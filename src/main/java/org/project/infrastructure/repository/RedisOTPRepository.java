@@ -0,0 +1,203 @@
+package org.project.infrastructure.repository;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.vertx.mutiny.redis.client.Response;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.entities.OTP;
+import org.project.domain.user.repositories.NotificationRepository;
+import org.project.domain.user.repositories.OTPRepository;
+import org.project.domain.user.value_objects.Notification;
+import org.project.infrastructure.security.Digests;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * OTPs kept in Redis and expired by Redis, selected with {@code otp.store=redis}.
+ * <p>
+ * An OTP is a hash {@code otp:code:{sha256(code)}}, and {@code otp:user:{user}} points from its user to that hash, so
+ * it can be found by the code alone as verification requires, or by user. Both keys expire with the OTP, which
+ * replaces the purge the {@code otp} table never had. Saving fails if the code or the user already has a live OTP, as
+ * the table's primary key and unique index do. Confirming deletes both keys in one script, so only one of two
+ * concurrent confirmations of the same code succeeds, without the table's delete trigger.
+ * <p>
+ * The delivery notification still goes to the outbox in Postgres; it is queued right after the OTP and the OTP is
+ * removed again if queueing fails.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "otp.store", stringValue = "redis")
+public class RedisOTPRepository implements OTPRepository {
+
+    static final String CODE_PREFIX = "otp:code:";
+
+    static final String USER_PREFIX = "otp:user:";
+
+    /**
+     * KEYS: code key, user key. ARGV: ttl millis, code hash, then the OTP fields as hash field/value pairs.
+     */
+    static final String SAVE = """
+            if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1])
+            return 1
+            """;
+
+    /**
+     * KEYS: code key, user key. ARGV: user id. Deletes the OTP only if it still belongs to the user.
+     */
+    static final String DELETE = """
+            if redis.call('HGET', KEYS[1], 'user_id') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """;
+
+    private final RedisDataSource redis;
+
+    private final HashCommands<String, String, String> hashCommands;
+
+    private final ValueCommands<String, String> valueCommands;
+
+    private final KeyCommands<String> keyCommands;
+
+    private final NotificationRepository notificationRepository;
+
+    RedisOTPRepository(Instance<RedisDataSource> redis, NotificationRepository notificationRepository) {
+        this.redis = redis.get();
+        this.hashCommands = this.redis.hash(String.class);
+        this.valueCommands = this.redis.value(String.class);
+        this.keyCommands = this.redis.key();
+        this.notificationRepository = notificationRepository;
+    }
+
+    @Override
+    public Result<Integer, Throwable> save(OTP otp) {
+        return Result.ofThrowable(() -> {
+            long ttlMillis = Math.max(1, Duration.between(LocalDateTime.now(), otp.expirationDate()).toMillis());
+            String codeHash = Digests.sha256(otp.otp());
+
+            int saved = eval(SAVE, CODE_PREFIX + codeHash, USER_PREFIX + otp.userID(),
+                    Long.toString(ttlMillis),
+                    codeHash,
+                    "otp", otp.otp(),
+                    "user_id", otp.userID().toString(),
+                    "is_confirmed", Boolean.toString(otp.isConfirmed()),
+                    "creation_date", otp.creationDate().toString(),
+                    "expiration_date", otp.expirationDate().toString());
+
+            if (saved == 0)
+                throw new IllegalStateException("An active OTP already exists for this code or user.");
+
+            return saved;
+        });
+    }
+
+    @Override
+    public Result<Integer, Throwable> save(OTP otp, Notification notification) {
+        Result<Integer, Throwable> saved = save(otp);
+        if (!saved.success())
+            return saved;
+
+        Result<Integer, Throwable> queued = notificationRepository.enqueue(notification);
+        if (!queued.success()) {
+            remove(otp);
+            return queued;
+        }
+
+        return saved;
+    }
+
+    /**
+     * A confirmed OTP is consumed: it is deleted, and the update fails if another request consumed it first.
+     */
+    @Override
+    public Result<Integer, Throwable> updateConfirmation(OTP otp) {
+        if (!otp.isConfirmed())
+            return Result.ofThrowable(() -> keyCommands.exists(codeKey(otp.otp())) ? 1 : 0);
+
+        return Result.ofThrowable(() -> {
+            int consumed = delete(otp);
+            if (consumed == 0)
+                throw new IllegalStateException("OTP was already used or has expired.");
+
+            return consumed;
+        });
+    }
+
+    @Override
+    public Result<Integer, Throwable> remove(OTP otp) {
+        return Result.ofThrowable(() -> delete(otp));
+    }
+
+    @Override
+    public boolean contains(UUID userID) {
+        return keyCommands.exists(USER_PREFIX + userID);
+    }
+
+    @Override
+    public Result<OTP, Throwable> findBy(OTP otp) {
+        return findBy(otp.otp());
+    }
+
+    @Override
+    public Result<OTP, Throwable> findBy(String otp) {
+        return Result.ofThrowable(() -> read(codeKey(otp)));
+    }
+
+    @Override
+    public Result<OTP, Throwable> findBy(UUID userID) {
+        return Result.ofThrowable(() -> {
+            String codeHash = valueCommands.get(USER_PREFIX + userID);
+            if (codeHash == null)
+                throw new NoSuchElementException("OTP not found.");
+
+            return read(CODE_PREFIX + codeHash);
+        });
+    }
+
+    private OTP read(String codeKey) {
+        Map<String, String> fields = hashCommands.hgetall(codeKey);
+        if (fields == null || fields.isEmpty())
+            throw new NoSuchElementException("OTP not found.");
+
+        return OTP.fromRepository(
+                fields.get("otp"),
+                UUID.fromString(fields.get("user_id")),
+                Boolean.parseBoolean(fields.get("is_confirmed")),
+                LocalDateTime.parse(fields.get("creation_date")),
+                LocalDateTime.parse(fields.get("expiration_date")));
+    }
+
+    private int delete(OTP otp) {
+        return eval(DELETE, codeKey(otp.otp()), USER_PREFIX + otp.userID(), otp.userID().toString());
+    }
+
+    private int eval(String script, String codeKey, String userKey, String... args) {
+        String[] command = new String[4 + args.length];
+        command[0] = script;
+        command[1] = "2";
+        command[2] = codeKey;
+        command[3] = userKey;
+        System.arraycopy(args, 0, command, 4, args.length);
+
+        Response response = redis.execute("EVAL", command);
+        return response.toInteger();
+    }
+
+    private static String codeKey(String otp) {
+        return CODE_PREFIX + Digests.sha256(otp);
+    }
+}
@@ -0,0 +1,18 @@
+package org.project.infrastructure.security;
+
+import org.project.domain.user.entities.User;
+
+/**
+ * The user data an access token carries, enough to mint one without loading the user.
+ */
+public record AccessClaims(String upn, String role, String firstname, String surname, boolean isVerified) {
+
+    public static AccessClaims from(User user) {
+        return new AccessClaims(
+                JWTUtility.retrieveUPN(user),
+                user.role().name(),
+                user.personalData().firstname(),
+                user.personalData().surname(),
+                user.isVerified());
+    }
+}
@@ -0,0 +1,26 @@
+package org.project.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Fixed-width digests of secrets, used wherever a secret has to be looked up without being stored or indexed as is.
+ */
+public final class Digests {
+
+    private Digests() {}
+
+    /**
+     * @return the SHA-256 of the UTF-8 bytes of the value, as 64 lowercase hex characters
+     */
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,10 +2,10 @@ package org.project.infrastructure.security;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.OptionalLong;
 
 /**
  * HOTPGenerator is a utility class that generates one-time passwords (OTPs) using the HOTP algorithm.
@@ -19,28 +19,29 @@ import java.util.Base64;
  * <p>
  * This class supports generating numeric HOTP codes (usually 6-8 digits) using HMAC algorithms
  * like HmacSHA1, HmacSHA256, or HmacSHA512.
+ * <p>
+ * A single instance is safe to share between threads. {@link Mac} is not, so every thread gets its own {@code Mac}
+ * together with reusable counter and hash buffers. The decoded key stays initialized on that {@code Mac} until the
+ * thread is asked for a code under a different key.
  *
  * @author Hadzhyiev Hadzhy
  */
 public class HOTPGenerator {
-    private final Mac mac;
     private final int passwordLength;
+    private final ThreadLocal<State> state;
     public static final String DEFAULT_ALGORITHM = "HmacSHA256";
     public static final int DEFAULT_LENGTH = 6;
 
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     /**
      * Creates a HOTPGenerator with default settings.
      * <p>
      * Uses HmacSHA256 as the hashing algorithm and produces 6-digit codes.
      */
     public HOTPGenerator() {
-        try {
-            this.mac = Mac.getInstance(DEFAULT_ALGORITHM);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException("Invalid algorithm: %s"
-                    .formatted(e.getLocalizedMessage()));
-        }
-        this.passwordLength = DEFAULT_LENGTH;
+        this(DEFAULT_ALGORITHM, DEFAULT_LENGTH);
     }
 
     /**
@@ -52,14 +53,7 @@ public class HOTPGenerator {
      *       </a>).
      */
     public HOTPGenerator(String algorithm) {
-        try {
-            this.mac = Mac.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException("Invalid algorithm: %s"
-                    .formatted(e.getLocalizedMessage()));
-        }
-
-        this.passwordLength = DEFAULT_LENGTH;
+        this(algorithm, DEFAULT_LENGTH);
     }
 
     /**
@@ -70,15 +64,13 @@ public class HOTPGenerator {
      * @throws IllegalArgumentException if the length is not 6–8 digits.
      */
     public HOTPGenerator(String algorithm, int passwordLength) {
-        try {
-            this.mac = Mac.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException("Invalid algorithm: %s"
-                    .formatted(e.getLocalizedMessage()));
-        }
         if (passwordLength < 6 || passwordLength > 8)
             throw new IllegalArgumentException("Password length must be between 6 and 8 characters");
+
         this.passwordLength = passwordLength;
+        this.state = ThreadLocal.withInitial(() -> new State(newMac(algorithm)));
+        // Fail on an unsupported algorithm here rather than on the first generated code
+        newMac(algorithm);
     }
 
     /**
@@ -96,27 +88,43 @@ public class HOTPGenerator {
      * @throws IllegalArgumentException if something goes wrong during the process (e.g., bad key format).
      */
     public String generateHOTP(String base64Key, long counter) {
-        try {
-            // Decode the Base64 key back into raw bytes
-            byte[] keyBytes = Base64.getDecoder().decode(base64Key);
-            // Convert the counter number into an 8-byte array (standard requirement for HOTP)
-            byte[] counterBytes = ByteBuffer.allocate(Long.BYTES).putLong(counter).array();
-
-            // Prepare the key for use in the MAC (Message Authentication Code) algorithm
-            SecretKeySpec signKey = new SecretKeySpec(keyBytes, "RAW");
-            mac.init(signKey);
-
-            // Compute the HMAC hash of the counter using the secret key
-            byte[] hash = mac.doFinal(counterBytes);
-
-            // Extract the one-time code from the hash
-            long truncatedHash = getTruncatedHash(hash);
+        State current = keyed(base64Key);
+        int code = truncatedHash(current, counter);
+
+        // Zero-pad to the desired length (e.g., "000123" for a 6-digit code) by writing digits from the right
+        char[] digits = new char[passwordLength];
+        for (int i = passwordLength - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + code % 10);
+            code /= 10;
+        }
+        return new String(digits);
+    }
 
-            // Format the number to be zero-padded to the desired length (e.g., "000123" for a 6-digit code)
-            return String.format("%0" + passwordLength + "d", truncatedHash);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Can`t generate HOTP. %s".formatted(e.getLocalizedMessage()));
+    /**
+     * Checks a received code against the counters {@code counter} to {@code counter + lookAhead}, so a client that
+     * generated a few codes without submitting them is still accepted.
+     *
+     * @param base64Key The secret key encoded in Base64 format.
+     * @param counter   The next counter the server expects.
+     * @param lookAhead How many counters after {@code counter} are also accepted.
+     * @param code      The code received from the client.
+     * @return The counter the code was generated with, or empty if no counter in the window matches.
+     * @throws IllegalArgumentException if the key is malformed or the look-ahead is negative.
+     */
+    public OptionalLong verifyHOTP(String base64Key, long counter, int lookAhead, String code) {
+        if (lookAhead < 0)
+            throw new IllegalArgumentException("Look-ahead window must not be negative");
+
+        int expected = parse(code);
+        if (expected < 0)
+            return OptionalLong.empty();
+
+        State current = keyed(base64Key);
+        for (long candidate = counter; candidate <= counter + lookAhead; candidate++) {
+            if (truncatedHash(current, candidate) == expected)
+                return OptionalLong.of(candidate);
         }
+        return OptionalLong.empty();
     }
 
     /**
@@ -125,45 +133,92 @@ public class HOTPGenerator {
      * This process is called "dynamic truncation" and is defined in the official HOTP specification (RFC 4226).
      * It ensures the generated code is both secure and unpredictable.
      *
-     * @param hash A 20-byte HMAC result, generated from the counter and secret key.
      * @return A positive number (e.g., 6 digits) extracted from the hash and ready to be formatted.
      */
-    private long getTruncatedHash(byte[] hash) {
-        // Step 1: Create a mask (0xF = 00001111 in binary) to extract the last 4 bits
-        // This is used to calculate a safe offset within the hash array (0–15)
-        int mask = ~(~0 << 4); // Equivalent to 0xF (00001111)
-        byte lastByte = hash[hash.length - 1]; // Take the last byte of the HMAC result
-        int offset = lastByte & mask; // Extract last 4 bits of that byte
-        /* For example:
-            lastByte:    11011011  => (219)
-            mask:        00001111
-            result:      00001011  => (11)
-         */
-
-        // Step 2: Extract 4 bytes starting at the calculated offset
-        // These 4 bytes will be interpreted as an integer to generate the OTP
-        byte[] truncatedHashInBytes = {
-                hash[offset],
-                hash[offset + 1],
-                hash[offset + 2],
-                hash[offset + 3]
-        };
-
-        // Step 3: Convert the 4 bytes into a single 32-bit integer
-        // ByteBuffer helps interpret the byte array as a number
-        ByteBuffer byteBuffer = ByteBuffer.wrap(truncatedHashInBytes);
-        long truncatedHash = byteBuffer.getInt(); // Still may be negative
-
-        // Step 4: Clear the most significant (sign) bit
-        // Ensures the result is a non-negative number by applying a bitmask
-        truncatedHash &= 0x7FFFFFFF; // Equivalent to keeping only the lowest 31 bits
-
-        // Step 5: Reduce the number to a fixed-length decimal code
-        // For example, if passwordLength = 6, result will be in range [000000, 999999]
-        truncatedHash %= (long) Math.pow(10, passwordLength);
-
-        // Return the final truncated and formatted HOTP value
-        return truncatedHash;
+    private int truncatedHash(State current, long counter) {
+        try {
+            // Write the counter as the 8-byte big-endian message required by HOTP
+            byte[] message = current.counter;
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                message[i] = (byte) counter;
+                counter >>>= 8;
+            }
+
+            byte[] hash = current.hash;
+            current.mac.update(message);
+            current.mac.doFinal(hash, 0);
+
+            // The last 4 bits of the hash select where the 4 code bytes start (0–15)
+            int offset = hash[hash.length - 1] & 0xF;
+
+            // Read those 4 bytes as a big-endian integer and clear the sign bit
+            int truncatedHash = (hash[offset] & 0x7F) << 24
+                    | (hash[offset + 1] & 0xFF) << 16
+                    | (hash[offset + 2] & 0xFF) << 8
+                    | (hash[offset + 3] & 0xFF);
+
+            // Reduce the number to a fixed-length decimal code, e.g. [000000, 999999] for 6 digits
+            return truncatedHash % POWERS_OF_TEN[passwordLength];
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Can`t generate HOTP. %s".formatted(e.getLocalizedMessage()));
+        }
+    }
+
+    private State keyed(String base64Key) {
+        State current = state.get();
+        if (base64Key.equals(current.key))
+            return current;
+
+        try {
+            current.key = null;
+            current.mac.init(new SecretKeySpec(Base64.getDecoder().decode(base64Key), "RAW"));
+            current.key = base64Key;
+            return current;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Can`t generate HOTP. %s".formatted(e.getLocalizedMessage()));
+        }
+    }
+
+    /**
+     * @return the numeric value of the code, or -1 if it is not exactly {@code passwordLength} digits
+     */
+    private int parse(String code) {
+        if (code == null || code.length() != passwordLength)
+            return -1;
+
+        int value = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char digit = code.charAt(i);
+            if (digit < '0' || digit > '9')
+                return -1;
+
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    private static Mac newMac(String algorithm) {
+        try {
+            return Mac.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Invalid algorithm: %s"
+                    .formatted(e.getLocalizedMessage()));
+        }
+    }
+
+    /**
+     * Per-thread HMAC state, reused across codes.
+     */
+    private static final class State {
+        private final Mac mac;
+        private final byte[] counter = new byte[Long.BYTES];
+        private final byte[] hash;
+        private String key;
+
+        private State(Mac mac) {
+            this.mac = mac;
+            this.hash = new byte[mac.getMacLength()];
+        }
     }
 
     /**
@@ -177,7 +232,7 @@ public class HOTPGenerator {
      */
     public static String generateSecretKey() {
         byte[] buffer = new byte[20];
-        new SecureRandom().nextBytes(buffer);
+        RANDOM.nextBytes(buffer);
         return Base64.getEncoder().encodeToString(buffer);
     }
 }
@@ -0,0 +1,11 @@
+package org.project.infrastructure.security;
+
+/**
+ * Thrown when password hashing cannot be admitted or does not finish in time; callers should retry later.
+ */
+public class HashingUnavailableException extends RuntimeException {
+
+    public HashingUnavailableException(String message) {
+        super(message);
+    }
+}
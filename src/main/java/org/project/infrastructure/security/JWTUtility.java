@@ -33,14 +33,18 @@ public class JWTUtility {
     }
 
     public String generateToken(User user) {
+        return generateToken(AccessClaims.from(user));
+    }
+
+    public String generateToken(AccessClaims claims) {
         Duration oneDayAndSecond = Duration.ofDays(1).plusSeconds(1);
 
         return Jwt.issuer("UYol")
-                .upn(retrieveUPN(user))
-                .groups(user.role().name())
-                .claim("firstname", user.personalData().firstname())
-                .claim("surname", user.personalData().surname())
-                .claim("isVerified", user.isVerified())
+                .upn(claims.upn())
+                .groups(claims.role())
+                .claim("firstname", claims.firstname())
+                .claim("surname", claims.surname())
+                .claim("isVerified", claims.isVerified())
                 .expiresIn(oneDayAndSecond)
                 .sign();
     }
@@ -73,7 +77,7 @@ public class JWTUtility {
         }
     }
 
-    private static String retrieveUPN(User user) {
+    static String retrieveUPN(User user) {
         return user.personalData().email().isPresent() ?
                 user.personalData().email().get() :
                 user.personalData().phone().orElseThrow();
@@ -1,30 +1,216 @@
 package org.project.infrastructure.security;
 
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import de.mkammerer.argon2.Argon2;
 import de.mkammerer.argon2.Argon2Factory;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 
+/**
+ * Argon2 hashing behind a bulkhead.
+ * <p>
+ * Every hash needs {@value #MEMORY_KIB} KiB off-heap and {@value #PARALLELISM} threads, so hashes run on a dedicated
+ * pool of {@code password.hashing.permits} threads. When that is 0, the size is derived from the cores and from
+ * {@code password.hashing.memory-budget-mb}. At most {@code password.hashing.queue-size} hashes wait for a thread.
+ * A hash that cannot be queued, or does not finish within {@code password.hashing.timeout-millis}, fails with
+ * {@link HashingUnavailableException} (503) instead of piling up.
+ * <p>
+ * On startup the iteration count is raised from {@value #MIN_ITERATIONS} for as long as one hash stays within
+ * {@code password.hashing.target-millis} on this host. Hashes embed their parameters, so verification of older hashes
+ * is unaffected.
+ */
 @Singleton
 public class PasswordEncoder {
 
+    static final int MEMORY_KIB = 65536;
+
+    static final int PARALLELISM = 4;
+
+    static final int MIN_ITERATIONS = 2;
+
+    static final int MAX_ITERATIONS = 10;
+
+    private static final AttributeKey<String> OPERATION = AttributeKey.stringKey("operation");
+
+    private static final Attributes ENCODE = Attributes.of(OPERATION, "encode");
+
+    private static final Attributes VERIFY = Attributes.of(OPERATION, "verify");
+
+    @ConfigProperty(name = "password.hashing.permits", defaultValue = "0")
+    int permits;
+
+    @ConfigProperty(name = "password.hashing.memory-budget-mb", defaultValue = "512")
+    int memoryBudgetMb;
+
+    @ConfigProperty(name = "password.hashing.queue-size", defaultValue = "64")
+    int queueSize;
+
+    @ConfigProperty(name = "password.hashing.timeout-millis", defaultValue = "2000")
+    int timeoutMillis;
+
+    @ConfigProperty(name = "password.hashing.target-millis", defaultValue = "250")
+    int targetMillis;
+
     private final Argon2 argon2;
 
-    public PasswordEncoder() {
+    private final Meter meter;
+
+    private final DoubleHistogram latency;
+
+    private final LongCounter rejections;
+
+    private volatile int iterations = MIN_ITERATIONS;
+
+    private ThreadPoolExecutor executor;
+
+    PasswordEncoder(OpenTelemetry openTelemetry) {
         this.argon2 = Argon2Factory.create();
+        this.meter = openTelemetry.getMeter("org.project.password-hashing");
+        this.latency = meter.histogramBuilder("password.hash.duration")
+                .setDescription("Time spent computing an Argon2 hash")
+                .setUnit("ms")
+                .build();
+        this.rejections = meter.counterBuilder("password.hash.rejected")
+                .setDescription("Hashes refused because the queue was full or the wait timed out")
+                .build();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (executor != null)
+            executor.shutdownNow();
+    }
+
+    void start() {
+        int size = permits > 0 ? permits : derivedPermits(Runtime.getRuntime().availableProcessors(), memoryBudgetMb);
+        executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        meter.gaugeBuilder("password.hash.queue.depth")
+                .setDescription("Hashes waiting for a hashing thread")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(executor.getQueue().size()));
+
+        if (targetMillis > 0)
+            iterations = calibrate();
+
+        Log.infof("Password hashing uses %d threads, queues up to %d hashes and runs %d Argon2 iterations.",
+                size, queueSize, iterations);
     }
 
     public String encode(String password) {
         Objects.requireNonNull(password);
-        return argon2.hash(2, 65536, 4, password.toCharArray());
+        char[] chars = password.toCharArray();
+        return submit(ENCODE, () -> {
+            try {
+                return argon2.hash(iterations, MEMORY_KIB, PARALLELISM, chars);
+            } finally {
+                argon2.wipeArray(chars);
+            }
+        });
     }
 
     public boolean verify(String password, String hashed) {
         Objects.requireNonNull(password);
         Objects.requireNonNull(hashed);
-        return argon2.verify(hashed, password.toCharArray());
+        char[] chars = password.toCharArray();
+        return submit(VERIFY, () -> {
+            try {
+                return argon2.verify(hashed, chars);
+            } finally {
+                argon2.wipeArray(chars);
+            }
+        });
+    }
+
+    int iterations() {
+        return iterations;
+    }
+
+    /**
+     * Enough threads to keep every core busy with {@value #PARALLELISM}-lane hashes, but never more concurrent hashes
+     * than the memory budget holds.
+     */
+    static int derivedPermits(int cores, int memoryBudgetMb) {
+        int byCores = Math.max(1, cores / PARALLELISM);
+        int byMemory = Math.max(1, memoryBudgetMb * 1024 / MEMORY_KIB);
+        return Math.min(byCores, byMemory);
     }
 
+    private <T> T submit(Attributes operation, Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    latency.record((System.nanoTime() - start) / 1_000_000.0, operation);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.add(1, operation);
+            throw new HashingUnavailableException("Too many password checks in progress, please try again.");
+        }
 
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejections.add(1, operation);
+            throw new HashingUnavailableException("Password check timed out, please try again.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new HashingUnavailableException("Password check was interrupted, please try again.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private int calibrate() {
+        char[] sample = "calibration-sample".toCharArray();
+        argon2.hash(MIN_ITERATIONS, MEMORY_KIB, PARALLELISM, sample);
+
+        int calibrated = MIN_ITERATIONS;
+        while (calibrated < MAX_ITERATIONS) {
+            long start = System.nanoTime();
+            argon2.hash(calibrated + 1, MEMORY_KIB, PARALLELISM, sample);
+            if ((System.nanoTime() - start) / 1_000_000 > targetMillis)
+                break;
+
+            calibrated++;
+        }
+        return calibrated;
+    }
 }
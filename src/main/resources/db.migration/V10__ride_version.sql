@@ -0,0 +1 @@
+ALTER TABLE ride ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
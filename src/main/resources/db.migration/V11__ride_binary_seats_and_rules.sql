@@ -0,0 +1,49 @@
+ALTER TABLE ride
+    ADD COLUMN seat_rows SMALLINT,
+    ADD COLUMN seat_columns SMALLINT,
+    ADD COLUMN male_seats BIGINT,
+    ADD COLUMN female_seats BIGINT,
+    ADD COLUMN child_seats BIGINT,
+    ADD COLUMN rules_mask SMALLINT;
+
+UPDATE ride
+SET seat_rows = jsonb_array_length(seats::jsonb),
+    seat_columns = jsonb_array_length(seats::jsonb -> 0);
+
+UPDATE ride
+SET male_seats = masks.male_seats,
+    female_seats = masks.female_seats,
+    child_seats = masks.child_seats
+FROM (
+    SELECT ride.id,
+           COALESCE(bit_or(CASE WHEN cell.status = 'MALE_OCCUPIED' THEN 1::BIGINT << seat.position END), 0) AS male_seats,
+           COALESCE(bit_or(CASE WHEN cell.status = 'FEMALE_OCCUPIED' THEN 1::BIGINT << seat.position END), 0) AS female_seats,
+           COALESCE(bit_or(CASE WHEN cell.status = 'CHILD_OCCUPIED' THEN 1::BIGINT << seat.position END), 0) AS child_seats
+    FROM ride
+    CROSS JOIN LATERAL jsonb_array_elements(ride.seats::jsonb) WITH ORDINALITY AS seat_row(cells, row_number)
+    CROSS JOIN LATERAL jsonb_array_elements_text(seat_row.cells) WITH ORDINALITY AS cell(status, column_number)
+    CROSS JOIN LATERAL (
+        SELECT ((seat_row.row_number - 1) * ride.seat_columns + cell.column_number - 1)::INT AS position
+    ) AS seat
+    GROUP BY ride.id
+) AS masks
+WHERE ride.id = masks.id;
+
+-- Bit positions follow RideRule ordinals: NO_SMOKING, NO_PETS, LIMITED_LUGGAGE.
+UPDATE ride
+SET rules_mask = COALESCE((
+    SELECT bit_or(1 << (array_position(ARRAY['NO_SMOKING', 'NO_PETS', 'LIMITED_LUGGAGE'], rule) - 1))
+    FROM jsonb_array_elements_text(ride.rules::jsonb) AS rule
+), 0);
+
+ALTER TABLE ride
+    ALTER COLUMN seat_rows SET NOT NULL,
+    ALTER COLUMN seat_columns SET NOT NULL,
+    ALTER COLUMN male_seats SET NOT NULL,
+    ALTER COLUMN female_seats SET NOT NULL,
+    ALTER COLUMN child_seats SET NOT NULL,
+    ALTER COLUMN rules_mask SET NOT NULL,
+    DROP COLUMN seats,
+    DROP COLUMN rules;
+
+ALTER TABLE ride RENAME COLUMN rules_mask TO rules;
@@ -0,0 +1,9 @@
+CREATE INDEX idx_ride_driver_start_time ON ride (driver_id, start_time DESC, id DESC);
+
+CREATE INDEX idx_ride_owner_start_time ON ride (owner_id, start_time DESC, id DESC);
+
+CREATE INDEX idx_ride_pending_start_time ON ride (start_time) WHERE status = 'PENDING';
+
+CREATE INDEX idx_ride_start_time_id ON ride (start_time, id);
+
+DROP INDEX idx_ride_start_time;
@@ -0,0 +1,7 @@
+ALTER TABLE driver ADD COLUMN average_rating DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE driver
+SET average_rating = sum_of_scores::double precision / total_reviews
+WHERE total_reviews > 0;
+
+CREATE INDEX idx_driver_available_rating ON driver (average_rating, created_at, id) WHERE status = 'AVAILABLE';
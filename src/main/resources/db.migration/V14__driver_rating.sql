@@ -0,0 +1,14 @@
+CREATE TABLE driver_rating (
+    ride_id CHAR(36) NOT NULL,
+    user_id CHAR(36) NOT NULL,
+    driver_id CHAR(36) NOT NULL,
+    score SMALLINT NOT NULL CHECK ( score BETWEEN 1 AND 5 ),
+    created_at TIMESTAMP NOT NULL,
+    aggregated BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (ride_id, user_id),
+    CONSTRAINT fk_ride_driver_rating FOREIGN KEY (ride_id) REFERENCES ride(id),
+    CONSTRAINT fk_user_driver_rating FOREIGN KEY (user_id) REFERENCES user_account(id),
+    CONSTRAINT fk_driver_driver_rating FOREIGN KEY (driver_id) REFERENCES driver(id)
+);
+
+CREATE INDEX idx_driver_rating_pending ON driver_rating (created_at) WHERE NOT aggregated;
@@ -0,0 +1,15 @@
+CREATE TABLE notification_outbox (
+    id CHAR(36) NOT NULL,
+    channel VARCHAR(5) NOT NULL CHECK ( channel IN ('EMAIL', 'SMS') ),
+    recipient VARCHAR(256) NOT NULL,
+    subject VARCHAR(128) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(7) NOT NULL DEFAULT 'PENDING' CHECK ( status IN ('PENDING', 'FAILED') ),
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(256),
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_notification_outbox_due ON notification_outbox (next_attempt_at) WHERE status = 'PENDING';
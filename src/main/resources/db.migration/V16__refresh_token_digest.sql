@@ -0,0 +1,11 @@
+ALTER TABLE refresh_token ADD COLUMN token_digest CHAR(64);
+
+UPDATE refresh_token SET token_digest = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+
+ALTER TABLE refresh_token ALTER COLUMN token_digest SET NOT NULL;
+
+DROP INDEX idx_refresh_token;
+
+ALTER TABLE refresh_token DROP COLUMN token;
+
+CREATE UNIQUE INDEX idx_refresh_token_digest ON refresh_token(token_digest);
@@ -0,0 +1,3 @@
+ALTER TABLE user_account ADD COLUMN profile_picture_digest CHAR(64);
+
+ALTER TABLE user_account ADD COLUMN profile_picture_type VARCHAR(8);
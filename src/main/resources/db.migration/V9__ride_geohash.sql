@@ -0,0 +1,61 @@
+CREATE FUNCTION geohash_encode(latitude DOUBLE PRECISION, longitude DOUBLE PRECISION, hash_length INT) RETURNS VARCHAR AS $$
+DECLARE
+    base32 CONSTANT TEXT := '0123456789bcdefghjkmnpqrstuvwxyz';
+    min_lat DOUBLE PRECISION := -90;
+    max_lat DOUBLE PRECISION := 90;
+    min_lon DOUBLE PRECISION := -180;
+    max_lon DOUBLE PRECISION := 180;
+    mid DOUBLE PRECISION;
+    hash TEXT := '';
+    bits INT := 0;
+    ch INT := 0;
+    even_bit BOOLEAN := TRUE;
+BEGIN
+    WHILE length(hash) < hash_length LOOP
+        IF even_bit THEN
+            mid := (min_lon + max_lon) / 2;
+            IF longitude >= mid THEN
+                ch := ch * 2 + 1;
+                min_lon := mid;
+            ELSE
+                ch := ch * 2;
+                max_lon := mid;
+            END IF;
+        ELSE
+            mid := (min_lat + max_lat) / 2;
+            IF latitude >= mid THEN
+                ch := ch * 2 + 1;
+                min_lat := mid;
+            ELSE
+                ch := ch * 2;
+                max_lat := mid;
+            END IF;
+        END IF;
+
+        even_bit := NOT even_bit;
+        bits := bits + 1;
+        IF bits = 5 THEN
+            hash := hash || substr(base32, ch + 1, 1);
+            bits := 0;
+            ch := 0;
+        END IF;
+    END LOOP;
+    RETURN hash;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+ALTER TABLE ride ADD COLUMN from_geohash VARCHAR(12);
+
+ALTER TABLE ride ADD COLUMN to_geohash VARCHAR(12);
+
+UPDATE ride
+SET from_geohash = geohash_encode(from_latitude, from_longitude, 9),
+    to_geohash = geohash_encode(to_latitude, to_longitude, 9);
+
+ALTER TABLE ride ALTER COLUMN from_geohash SET NOT NULL;
+
+ALTER TABLE ride ALTER COLUMN to_geohash SET NOT NULL;
+
+CREATE INDEX idx_ride_pending_from_geohash ON ride (from_geohash varchar_pattern_ops, start_time) WHERE status = 'PENDING';
+
+CREATE INDEX idx_ride_pending_to_geohash ON ride (to_geohash varchar_pattern_ops, start_time) WHERE status = 'PENDING';
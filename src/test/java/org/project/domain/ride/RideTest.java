@@ -7,6 +7,7 @@ import org.project.domain.ride.enumerations.RideStatus;
 import org.project.domain.ride.enumerations.SeatStatus;
 import org.project.domain.ride.value_object.BookedSeats;
 import org.project.domain.ride.value_object.PassengerSeat;
+import org.project.domain.ride.exceptions.SeatConflictException;
 import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
 import org.project.domain.shared.value_objects.UserID;
 import org.project.features.util.TestDataGenerator;
@@ -131,6 +132,17 @@ class RideTest {
         assertEquals("Passenger seat must have occupied status (not EMPTY or DRIVER): EMPTY", e1.getMessage());
     }
 
+    @Test
+    void shouldRejectBookingOfOccupiedSeat() {
+        Ride ride = TestDataGenerator.rideWithoutDelivery();
+        int index = generateIndex(ride);
+        SeatStatus seatStatus = getRandomNonDriverOccupiedStatus();
+
+        ride.book(UserID.newID(), getBookedSeats(index, seatStatus));
+
+        assertThrows(SeatConflictException.class, () -> ride.book(UserID.newID(), getBookedSeats(index, seatStatus)));
+    }
+
     private static @NotNull BookedSeats getBookedSeats(int index, SeatStatus seatStatus) {
         return new BookedSeats(List.of(new PassengerSeat(index, seatStatus)));
     }
@@ -0,0 +1,71 @@
+package org.project.domain.ride;
+
+import org.junit.jupiter.api.Test;
+import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.exceptions.SeatConflictException;
+import org.project.domain.ride.value_object.SeatMap;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatMapTest {
+
+    @Test
+    void shouldKeepMatrixShapeOnRoundTrip() {
+        SeatStatus[][] matrix = {
+                {SeatStatus.DRIVER, SeatStatus.EMPTY},
+                {SeatStatus.MALE_OCCUPIED, SeatStatus.CHILD_OCCUPIED}
+        };
+
+        SeatMap seatMap = new SeatMap(matrix);
+
+        assertArrayEquals(matrix, seatMap.seats());
+        assertEquals(seatMap, new SeatMap(seatMap.seats()));
+        assertEquals(List.of(2, 3), seatMap.occupiedIndexes());
+    }
+
+    @Test
+    void shouldOccupyWithoutChangingOriginal() {
+        SeatMap seatMap = SeatMap.ofEmpty(2, 2);
+
+        SeatMap occupied = seatMap.occupy(1, SeatStatus.FEMALE_OCCUPIED);
+
+        assertTrue(seatMap.isAvailable(1));
+        assertFalse(occupied.isAvailable(1));
+        assertEquals(SeatStatus.FEMALE_OCCUPIED, occupied.status(0, 1));
+        assertThrows(SeatConflictException.class, () -> occupied.occupy(1, SeatStatus.MALE_OCCUPIED));
+    }
+
+    @Test
+    void shouldSupportSixtyFourSeats() {
+        SeatMap seatMap = SeatMap.ofEmpty(16, 4);
+
+        SeatMap occupied = seatMap.occupy(63, SeatStatus.CHILD_OCCUPIED);
+
+        assertEquals(64, occupied.size());
+        assertEquals(List.of(63), occupied.occupiedIndexes());
+        assertTrue(occupied.hasAvailableSeats());
+        assertEquals(occupied, new SeatMap(occupied.seats()));
+    }
+
+    @Test
+    void shouldRejectFullMapAvailability() {
+        SeatMap seatMap = SeatMap.ofEmpty(1, 2).occupy(1, SeatStatus.MALE_OCCUPIED);
+
+        assertFalse(seatMap.hasAvailableSeats());
+        assertFalse(seatMap.isAvailable(0));
+        assertFalse(seatMap.isAvailable(2));
+    }
+
+    @Test
+    void shouldRejectJaggedMatrix() {
+        SeatStatus[][] matrix = {
+                {SeatStatus.DRIVER, SeatStatus.EMPTY},
+                {SeatStatus.EMPTY}
+        };
+
+        assertThrows(IllegalDomainArgumentException.class, () -> new SeatMap(matrix));
+    }
+}
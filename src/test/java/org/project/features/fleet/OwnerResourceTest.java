@@ -209,7 +209,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 
 		rideRepository.save(ride);
 
@@ -246,7 +246,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
@@ -287,7 +287,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
@@ -322,7 +322,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
@@ -357,7 +357,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
@@ -395,7 +395,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
 
@@ -432,7 +432,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
 
@@ -466,7 +466,7 @@ class OwnerResourceTest {
 				new SeatMap(new SeatStatus[][] { { SeatStatus.DRIVER, SeatStatus.EMPTY },
 						{ SeatStatus.EMPTY, SeatStatus.EMPTY } }),
 				RideStatus.PENDING, new RideDesc("Test ride"), Set.of(RideRule.NO_SMOKING), Dates.defaultDates(), false,
-				Fee.zero());
+				Fee.zero(), 0L);
 		rideRepository.save(ride);
 		UUID rideID = ride.id().value();
 		given().header("Authorization", "Bearer " + jwtToken).queryParam("rideID", rideID).when()
@@ -243,6 +243,44 @@ class DriverRideRequestAcceptanceTest {
                 .body("size()", equalTo(0));
     }
 
+    @Test
+    void pageRideRequests() {
+        User driverUser = TestDataGenerator.user();
+        assertTrue(userRepository.save(driverUser).success());
+        Driver driver = Driver.of(driverUser.userID(), TestDataGenerator.driverLicense());
+        assertTrue(driverRepository.save(driver).success());
+        String driverJwtToken = jwtUtility.generateToken(driverUser);
+
+        User ownerUser = TestDataGenerator.user();
+        assertTrue(userRepository.save(ownerUser).success());
+        Owner owner = Owner.of(ownerUser.userID(), TestDataGenerator.voen());
+        assertTrue(ownerRepository.save(owner).success());
+
+        LicensePlate plate = TestDataGenerator.generateLicensePlate();
+        Car car = TestDataGenerator.car(owner.userID(), plate);
+        assertTrue(carRepository.save(car).success());
+
+        for (int i = 0; i < 3; i++) createRideRequestForDriver(driver, owner, car);
+
+        given().header("Authorization", "Bearer " + driverJwtToken)
+                .queryParam("pageNumber", 1)
+                .queryParam("pageSize", 2)
+                .when()
+                .get("/uyol/driver/ride-requests")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .body("size()", equalTo(2));
+
+        given().header("Authorization", "Bearer " + driverJwtToken)
+                .queryParam("pageNumber", 2)
+                .queryParam("pageSize", 2)
+                .when()
+                .get("/uyol/driver/ride-requests")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .body("size()", equalTo(1));
+    }
+
     @Test
     void acceptAlreadyAcceptedRideRequest() {
         User driverUser = TestDataGenerator.user();
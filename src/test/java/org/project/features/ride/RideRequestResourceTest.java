@@ -1,13 +1,17 @@
 package org.project.features.ride;
 
 import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.Test;
+import org.project.application.dto.ride.RideRequestEvent;
 import org.project.application.dto.ride.RideRequestToDriver;
 import org.project.domain.fleet.entities.Car;
 import org.project.domain.fleet.entities.Driver;
@@ -22,11 +26,13 @@ import org.project.domain.user.entities.User;
 import org.project.domain.user.repositories.UserRepository;
 import org.project.features.util.PostgresTestResource;
 import org.project.features.util.TestDataGenerator;
+import org.project.infrastructure.cache.RideRequestEvents;
 import org.project.infrastructure.security.JWTUtility;
 
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import io.smallrye.mutiny.subscription.Cancellable;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 
@@ -49,6 +55,9 @@ class RideRequestResourceTest {
     @Inject
     JWTUtility jwtUtility;
 
+    @Inject
+    RideRequestEvents rideRequestEvents;
+
     @Test
     void successfullyRequestRideToDriver() {
         User ownerUser = TestDataGenerator.user();
@@ -85,13 +94,26 @@ class RideRequestResourceTest {
                 new org.project.domain.ride.enumerations.RideRule[]{org.project.domain.ride.enumerations.RideRule.NO_SMOKING}
         );
 
-        given().header("Authorization", "Bearer " + ownerJwtToken)
-                .contentType(ContentType.JSON)
-                .body(rideRequest)
-                .when()
-                .post("/uyol/owner/ride/request")
-                .then()
-                .statusCode(Response.Status.ACCEPTED.getStatusCode());
+        List<RideRequestEvent> events = new CopyOnWriteArrayList<>();
+        Cancellable subscription = rideRequestEvents.stream(driver.id()).subscribe().with(events::add);
+        try {
+            given().header("Authorization", "Bearer " + ownerJwtToken)
+                    .contentType(ContentType.JSON)
+                    .body(rideRequest)
+                    .when()
+                    .post("/uyol/owner/ride/request")
+                    .then()
+                    .statusCode(Response.Status.ACCEPTED.getStatusCode());
+        } finally {
+            subscription.cancel();
+        }
+
+        assertEquals(1, events.size());
+        RideRequestEvent created = events.getFirst();
+        assertEquals(RideRequestEvent.Type.CREATED, created.type());
+        assertEquals(driver.id().value(), created.driverID());
+        assertEquals(plate.value(), created.rideRequest().licensePlate());
+        assertTrue(created.expiresAt().isAfter(LocalDateTime.now()));
     }
 
     @Test
@@ -12,6 +12,7 @@ import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.repositories.CarRepository;
 import org.project.domain.fleet.repositories.DriverRepository;
 import org.project.domain.fleet.value_objects.LicensePlate;
+import org.project.domain.fleet.value_objects.Rated;
 import org.project.domain.ride.entities.Ride;
 import org.project.domain.ride.enumerations.SeatStatus;
 import org.project.domain.ride.value_object.PassengerSeat;
@@ -27,6 +28,7 @@ import org.project.infrastructure.security.JWTUtility;
 import java.util.*;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @QuarkusTest
 @QuarkusTestResource(PostgresTestResource.class)
@@ -179,6 +181,20 @@ class RideReservationResourceTest {
                 .post("/uyol/ride/reservation/rate/driver")
                 .then()
                 .statusCode(Response.Status.ACCEPTED.getStatusCode());
+
+        given()
+                .header("Authorization", "Bearer " + passengerJwt)
+                .queryParam("rideID", rideID)
+                .queryParam("score", 1)
+                .when()
+                .post("/uyol/ride/reservation/rate/driver")
+                .then()
+                .statusCode(Response.Status.CONFLICT.getStatusCode());
+
+        driverRepository.applyRatings(100).orElseThrow();
+
+        Driver ratedDriver = driverRepository.findBy(driver.id()).orElseThrow();
+        assertThat(ratedDriver.rating()).isEqualTo(new Rated(1, 5));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package org.project.features.user;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.notNullValue;
 
 import java.awt.image.BufferedImage;
@@ -11,6 +12,7 @@ import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.project.domain.user.entities.User;
+import org.project.domain.user.value_objects.ProfilePicture;
 import org.project.domain.user.repositories.UserRepository;
 import org.project.infrastructure.security.JWTUtility;
 import org.project.features.util.PostgresTestResource;
@@ -83,6 +85,36 @@ class UserProfileResourceTest {
 				.body("profilePicture", notNullValue());
 	}
 
+	@Test
+	void shouldStreamRawProfilePictureWithETag() throws IOException {
+		shouldChangeProfilePictureSuccessfully();
+
+		String etag = given()
+				.auth().oauth2(tokenWithPicture)
+				.when()
+				.get("/uyol/user/profile/picture/raw")
+				.then()
+				.statusCode(200)
+				.contentType("image/png")
+				.header("Cache-Control", containsString("no-cache"))
+				.header("ETag", notNullValue())
+				.extract()
+				.header("ETag");
+
+		given()
+				.auth().oauth2(tokenWithPicture)
+				.header("If-None-Match", etag)
+				.when()
+				.get("/uyol/user/profile/picture/raw")
+				.then()
+				.statusCode(304);
+	}
+
+	@Test
+	void shouldReturn404IfRawProfilePictureNotExists() {
+		given().auth().oauth2(tokenWithoutPicture).when().get("/uyol/user/profile/picture/raw").then().statusCode(404);
+	}
+
 	@Test
 	void shouldReturn404IfProfilePictureNotExists() {
 		given().auth().oauth2(tokenWithoutPicture).when().get("/uyol/user/profile/picture").then().statusCode(404);
@@ -101,4 +133,24 @@ class UserProfileResourceTest {
         .then()
 				.statusCode(400);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void shouldReturn400IfPictureExceedsMaxSize() {
+		byte[] oversized = new byte[ProfilePicture.MAX_SIZE + 1];
+		oversized[0] = (byte) 0x89;
+		oversized[1] = (byte) 0x50;
+		oversized[2] = (byte) 0x4E;
+		oversized[3] = (byte) 0x47;
+
+		given()
+				.auth().oauth2(tokenWithPicture)
+				.contentType("application/octet-stream")
+				.body(new ByteArrayInputStream(oversized))
+				.when()
+				.put("/uyol/user/profile/picture/change")
+				.then()
+				.statusCode(400);
+
+		given().auth().oauth2(tokenWithPicture).when().get("/uyol/user/profile/picture/raw").then().statusCode(404);
+	}
+}
@@ -0,0 +1,144 @@
+package org.project.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import org.project.application.dto.fleet.DriverDTO;
+import org.project.application.pagination.CursorRequest;
+import org.project.application.pagination.PageRequest;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.fleet.enumerations.DriverStatus;
+import org.project.domain.fleet.repositories.DriverRepository;
+import org.project.domain.fleet.value_objects.DriverRating;
+import org.project.domain.fleet.value_objects.NoRating;
+import org.project.domain.fleet.value_objects.Rated;
+import org.project.domain.fleet.value_objects.TotalRides;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.shared.value_objects.Dates;
+import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.UserID;
+import org.project.features.util.TestDataGenerator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DriverLeaderboardTest {
+
+    private final DriverRepository driverRepository = mock(DriverRepository.class);
+
+    @Test
+    void shouldRankByRatingThenNewest() {
+        Driver older = driver(new NoRating(), LocalDateTime.now().minusDays(1));
+        Driver newer = driver(new NoRating(), LocalDateTime.now());
+        Driver rated = driver(new Rated(2, 9), LocalDateTime.now().minusDays(2));
+        DriverLeaderboard leaderboard = leaderboard(10, older, newer, rated);
+
+        assertThat(ids(leaderboard.page(new PageRequest(5, 1)).orElseThrow()))
+                .containsExactly(id(rated), id(newer), id(older));
+    }
+
+    @Test
+    void shouldFallBackWhenPageReachesPastBoard() {
+        DriverLeaderboard leaderboard = leaderboard(2, driver(), driver(), driver());
+
+        assertThat(leaderboard.page(new PageRequest(2, 1))).isPresent();
+        assertThat(leaderboard.page(new PageRequest(2, 2))).isEmpty();
+    }
+
+    @Test
+    void shouldReRankDriverAfterRating() {
+        Driver first = driver(new Rated(2, 7), LocalDateTime.now());
+        Driver second = driver(new Rated(1, 3), LocalDateTime.now());
+        DriverLeaderboard leaderboard = leaderboard(10, first, second);
+
+        second.rate(5);
+        leaderboard.update(second);
+
+        assertThat(ids(leaderboard.page(new PageRequest(5, 1)).orElseThrow()))
+                .containsExactly(id(second), id(first));
+    }
+
+    @Test
+    void shouldDropDriverThatIsNoLongerAvailable() {
+        Driver driver = driver();
+        DriverLeaderboard leaderboard = leaderboard(10, driver);
+
+        driver.startedRide();
+        leaderboard.update(driver);
+
+        assertThat(leaderboard.page(new PageRequest(5, 1)).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreDriverRankingBelowIncompleteBoard() {
+        Driver top = driver(new Rated(1, 5), LocalDateTime.now());
+        Driver middle = driver(new Rated(1, 4), LocalDateTime.now());
+        Driver outside = driver(new Rated(1, 3), LocalDateTime.now());
+        DriverLeaderboard leaderboard = leaderboard(2, top, middle, outside);
+
+        Driver newcomer = driver(new Rated(1, 1), LocalDateTime.now());
+        leaderboard.update(newcomer);
+
+        assertThat(ids(leaderboard.page(new PageRequest(2, 1)).orElseThrow()))
+                .containsExactly(id(top), id(middle));
+        assertThat(leaderboard.page(new PageRequest(3, 1))).isEmpty();
+    }
+
+    @Test
+    void shouldPageByCursorFromWhereTheLastDriverRanked() {
+        Driver first = driver(new Rated(1, 5), LocalDateTime.now());
+        Driver second = driver(new Rated(1, 4), LocalDateTime.now());
+        Driver third = driver(new Rated(1, 3), LocalDateTime.now());
+        Driver fourth = driver(new Rated(1, 2), LocalDateTime.now());
+        DriverLeaderboard leaderboard = leaderboard(10, first, second, third, fourth);
+
+        List<DriverDTO> firstPage = leaderboard.page(new PageRequest(2, 1)).orElseThrow();
+        List<String> cursor = firstPage.getLast().sortKey().stream().map(String::valueOf).toList();
+
+        second.rate(1);
+        leaderboard.update(second);
+
+        assertThat(ids(leaderboard.page(new CursorRequest(2, cursor)).orElseThrow()))
+                .containsExactly(id(third), id(second));
+
+        second.startedRide();
+        leaderboard.update(second);
+
+        assertThat(ids(leaderboard.page(new CursorRequest(2, cursor)).orElseThrow()))
+                .containsExactly(id(third), id(fourth));
+    }
+
+    private DriverLeaderboard leaderboard(int size, Driver... drivers) {
+        when(driverRepository.topAvailable(size + 1)).thenReturn(Result.success(List.of(drivers)));
+
+        DriverLeaderboard leaderboard = new DriverLeaderboard(driverRepository);
+        leaderboard.size = size;
+        leaderboard.reload();
+        return leaderboard;
+    }
+
+    private static Driver driver() {
+        return driver(new NoRating(), LocalDateTime.now());
+    }
+
+    private static Driver driver(DriverRating rating, LocalDateTime createdAt) {
+        return Driver.fromRepository(
+                DriverID.newID(),
+                UserID.newID(),
+                TestDataGenerator.driverLicense(),
+                new Dates(createdAt, createdAt),
+                DriverStatus.AVAILABLE,
+                new TotalRides(0),
+                rating);
+    }
+
+    private static String id(Driver driver) {
+        return driver.id().value().toString();
+    }
+
+    private static List<String> ids(List<DriverDTO> drivers) {
+        return drivers.stream().map(DriverDTO::driverID).toList();
+    }
+}
@@ -0,0 +1,150 @@
+package org.project.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import org.project.application.dto.ride.RideDTO;
+import org.project.application.pagination.PageRequest;
+import org.project.domain.ride.entities.Ride;
+import org.project.domain.ride.repositories.RideRepository;
+import org.project.domain.ride.value_object.Location;
+import org.project.domain.ride.value_object.RideTime;
+import org.project.domain.ride.value_object.Route;
+import org.project.domain.ride.value_object.SearchRadius;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.shared.value_objects.CarID;
+import org.project.features.util.TestDataGenerator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PendingRidesIndexTest {
+
+    private static final Location BAKU = new Location("Baku", 40.4093, 49.8671);
+    private static final Location SUMQAYIT = new Location("Sumqayit", 40.5897, 49.6686);
+    private static final Location GANJA = new Location("Ganja", 40.6828, 46.3606);
+
+    private final RideRepository rideRepository = mock(RideRepository.class);
+
+    @Test
+    void shouldFindRideWithinRadiusAfterWarmUp() {
+        Ride near = ride(new Location("Baku center", 40.4100, 49.8700), new Location("Sumqayit center", 40.5900, 49.6700));
+        Ride far = ride(GANJA, SUMQAYIT);
+        PendingRidesIndex index = index(100, near, far);
+
+        Optional<List<RideDTO>> result = index.actualFor(BAKU, SUMQAYIT, new SearchRadius(5), LocalDate.now(), new PageRequest(10, 0));
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(RideDTO::id).containsExactly(near.id().value().toString());
+    }
+
+    @Test
+    void shouldRemoveRideOnceItIsNoLongerPending() {
+        Ride ride = ride(BAKU, SUMQAYIT);
+        PendingRidesIndex index = index(100, ride);
+
+        ride.cancel();
+        index.update(ride);
+
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .hasValueSatisfying(rides -> assertThat(rides).isEmpty());
+    }
+
+    @Test
+    void shouldFallBackWhenRidesWereDroppedPastCapacity() {
+        PendingRidesIndex index = index(1, ride(BAKU, SUMQAYIT), ride(BAKU, SUMQAYIT));
+
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldNotAnswerBeforeWarmUp() {
+        PendingRidesIndex index = new PendingRidesIndex(rideRepository);
+        index.maxSize = 100;
+
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldKeepAnsweringFromPreviousLoadWhileReloading() {
+        Ride loaded = ride(BAKU, SUMQAYIT);
+        Ride added = ride(BAKU, SUMQAYIT);
+        PendingRidesIndex index = index(100, loaded);
+        List<Optional<List<RideDTO>>> duringReload = new ArrayList<>();
+        when(rideRepository.upcoming(anyInt())).thenAnswer(invocation -> {
+            duringReload.add(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)));
+            return Result.success(List.of(loaded, added));
+        });
+
+        index.reload();
+
+        assertThat(duringReload).singleElement()
+                .satisfies(result -> assertThat(result).hasValueSatisfying(rides ->
+                        assertThat(rides).extracting(RideDTO::id).containsExactly(loaded.id().value().toString())));
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .hasValueSatisfying(rides -> assertThat(rides).hasSize(2));
+    }
+
+    @Test
+    void shouldOrderRidesStartingTogetherByID() {
+        RideTime rideTime = TestDataGenerator.generateRideTime();
+        Ride first = ride(BAKU, SUMQAYIT, rideTime);
+        Ride second = ride(BAKU, SUMQAYIT, rideTime);
+        Ride third = ride(BAKU, SUMQAYIT, rideTime);
+        PendingRidesIndex index = index(100, first, second, third);
+
+        List<String> expected = Stream.of(first, second, third)
+                .map(ride -> ride.id().value().toString())
+                .sorted()
+                .toList();
+
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .hasValueSatisfying(rides -> assertThat(rides).extracting(RideDTO::id).containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    void shouldStayDisabledWithZeroSize() {
+        Ride ride = ride(BAKU, SUMQAYIT);
+        PendingRidesIndex index = index(0, ride);
+
+        index.update(ride);
+
+        assertThat(index.actualFor(BAKU, SUMQAYIT, SearchRadius.defaultRadius(), LocalDate.now(), new PageRequest(10, 0)))
+                .isEmpty();
+    }
+
+    private PendingRidesIndex index(int maxSize, Ride... rides) {
+        when(rideRepository.upcoming(anyInt())).thenReturn(Result.success(List.of(rides)));
+
+        PendingRidesIndex index = new PendingRidesIndex(rideRepository);
+        index.maxSize = maxSize;
+        index.reload();
+        return index;
+    }
+
+    private static Ride ride(Location from, Location to) {
+        return ride(from, to, TestDataGenerator.generateRideTime());
+    }
+
+    private static Ride ride(Location from, Location to, RideTime rideTime) {
+        return Ride.of(
+                new CarID(UUID.randomUUID()),
+                TestDataGenerator.generateRideOwner(),
+                new Route(from, to),
+                rideTime,
+                TestDataGenerator.generatePrice(),
+                TestDataGenerator.generateSeatMap(),
+                TestDataGenerator.generateRideDesc(),
+                TestDataGenerator.generateRideRules()
+        );
+    }
+}
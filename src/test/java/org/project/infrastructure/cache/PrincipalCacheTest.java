@@ -0,0 +1,90 @@
+package org.project.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import org.project.domain.fleet.entities.Driver;
+import org.project.domain.user.entities.User;
+import org.project.features.util.TestDataGenerator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    @Test
+    void shouldHandOutCopiesThatDoNotLeakMutations() {
+        PrincipalCache cache = cache(100, 60);
+        User user = TestDataGenerator.user();
+        cache.put("user@example.com", user);
+
+        User first = cache.user("user@example.com").orElseThrow();
+        first.incrementCounter();
+
+        User second = cache.user("user@example.com").orElseThrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.keyAndCounter().counter()).isEqualTo(user.keyAndCounter().counter());
+    }
+
+    @Test
+    void shouldInvalidateEveryIdentifierOfUser() {
+        PrincipalCache cache = cache(100, 60);
+        User user = TestDataGenerator.user();
+        cache.put("user@example.com", user);
+        cache.put("+994501234567", user);
+
+        cache.invalidate(user.id());
+
+        assertThat(cache.user("user@example.com")).isEmpty();
+        assertThat(cache.user("+994501234567")).isEmpty();
+    }
+
+    @Test
+    void shouldInvalidateDriver() {
+        PrincipalCache cache = cache(100, 60);
+        Driver driver = TestDataGenerator.driver();
+        cache.put(driver);
+
+        cache.invalidate(driver);
+
+        assertThat(cache.driver(driver.userID())).isEmpty();
+    }
+
+    @Test
+    void shouldExpireEntries() {
+        PrincipalCache cache = cache(100, 0);
+        cache.put("user@example.com", TestDataGenerator.user());
+
+        assertThat(cache.user("user@example.com")).isEmpty();
+    }
+
+    @Test
+    void shouldStayWithinCapacity() {
+        PrincipalCache cache = cache(2, 60);
+        List<String> identifiers = List.of("first@example.com", "second@example.com", "third@example.com");
+        identifiers.forEach(identifier -> cache.put(identifier, TestDataGenerator.user()));
+
+        assertThat(identifiers).filteredOn(identifier -> cache.user(identifier).isPresent()).hasSize(2);
+    }
+
+    @Test
+    void shouldKeepInvalidatingUserAfterOneIdentifierIsEvicted() {
+        PrincipalCache cache = cache(2, 60);
+        User user = TestDataGenerator.user();
+        cache.put("user@example.com", user);
+        cache.put("+994501234567", user);
+        cache.put("other@example.com", TestDataGenerator.user());
+
+        cache.invalidate(user.id());
+
+        assertThat(cache.user("user@example.com")).isEmpty();
+        assertThat(cache.user("+994501234567")).isEmpty();
+    }
+
+    private static PrincipalCache cache(int maxSize, int ttlSeconds) {
+        PrincipalCache cache = new PrincipalCache();
+        cache.maxSize = maxSize;
+        cache.ttlSeconds = ttlSeconds;
+        cache.init();
+        return cache;
+    }
+}
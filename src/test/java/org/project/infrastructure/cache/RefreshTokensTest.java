@@ -0,0 +1,120 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.Test;
+import org.project.application.service.AuthService;
+import org.project.domain.user.entities.User;
+import org.project.domain.user.value_objects.RefreshToken;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.RedisTestResource;
+import org.project.features.util.TestDataGenerator;
+import org.project.infrastructure.cache.RefreshTokens.RefreshSession;
+import org.project.infrastructure.repository.JetUserRepository;
+import org.project.infrastructure.security.AccessClaims;
+import org.project.infrastructure.security.JWTUtility;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@QuarkusTest
+@QuarkusTestResource(value = PostgresTestResource.class)
+@QuarkusTestResource(value = RedisTestResource.class)
+class RefreshTokensTest {
+
+    @InjectSpy
+    JetUserRepository userRepository;
+
+    @Inject
+    AuthService authService;
+
+    @Inject
+    RefreshTokens refreshTokens;
+
+    @Inject
+    JWTUtility jwtUtility;
+
+    @Test
+    void shouldServeSecondRefreshFromCache() {
+        User user = savedUser();
+        String refreshToken = savedRefreshToken(user);
+
+        assertThat(authService.refreshToken(refreshToken).token()).isNotBlank();
+        assertThat(authService.refreshToken(refreshToken).token()).isNotBlank();
+
+        verify(userRepository, times(1)).findRefreshToken(refreshToken);
+        verify(userRepository, times(1)).findBy(user.id());
+    }
+
+    @Test
+    void shouldMissReplacedToken() {
+        User user = savedUser();
+        String replaced = savedRefreshToken(user);
+        authService.refreshToken(replaced);
+        assertThat(refreshTokens.get(replaced)).isPresent();
+
+        String current = savedRefreshToken(user);
+
+        assertThat(refreshTokens.get(replaced)).isEmpty();
+        assertThatThrownBy(() -> authService.refreshToken(replaced))
+                .isInstanceOfSatisfying(WebApplicationException.class,
+                        e -> assertThat(e.getResponse().getStatus()).isEqualTo(404));
+        assertThat(authService.refreshToken(current).token()).isNotBlank();
+    }
+
+    @Test
+    void shouldNotCacheTokenReplacedWhileRefreshing() {
+        User user = savedUser();
+        String replaced = savedRefreshToken(user);
+        RefreshSession session = session(user);
+
+        // a refresh read the old token from the database, then a login replaced it before the refresh cached it
+        String current = savedRefreshToken(user);
+        refreshTokens.put(replaced, session);
+
+        assertThat(refreshTokens.get(replaced)).isEmpty();
+
+        refreshTokens.put(current, session);
+        assertThat(refreshTokens.get(current)).contains(session);
+    }
+
+    @Test
+    void shouldMissAfterUserIsUpdated() {
+        User user = savedUser();
+        String refreshToken = savedRefreshToken(user);
+        authService.refreshToken(refreshToken);
+        assertThat(refreshTokens.get(refreshToken)).isPresent();
+
+        assertThat(userRepository.updateVerification(user).success()).isTrue();
+
+        assertThat(refreshTokens.get(refreshToken)).isEmpty();
+        authService.refreshToken(refreshToken);
+        assertThat(refreshTokens.get(refreshToken)).isPresent();
+        verify(userRepository, times(2)).findRefreshToken(refreshToken);
+    }
+
+    private User savedUser() {
+        User user = TestDataGenerator.user();
+        assertThat(userRepository.save(user).success()).isTrue();
+        return user;
+    }
+
+    private String savedRefreshToken(User user) {
+        String refreshToken = jwtUtility.generateRefreshToken(user);
+        assertThat(userRepository.saveRefreshToken(new RefreshToken(user.id(), refreshToken)).success()).isTrue();
+        return refreshToken;
+    }
+
+    private static RefreshSession session(User user) {
+        long expiresAt = Instant.now().plus(365, ChronoUnit.DAYS).getEpochSecond();
+        return new RefreshSession(user.id(), expiresAt, AccessClaims.from(user));
+    }
+}
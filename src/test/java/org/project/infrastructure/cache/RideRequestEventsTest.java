@@ -0,0 +1,55 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.inject.Instance;
+import org.junit.jupiter.api.Test;
+import org.project.application.dto.ride.RideRequestEvent;
+import org.project.domain.ride.value_object.RideRequestID;
+import org.project.domain.shared.value_objects.DriverID;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RideRequestEventsTest {
+
+    @SuppressWarnings("unchecked")
+    private final RideRequestEvents events = new RideRequestEvents(mock(Instance.class), mock(RideRequests.class));
+
+    @Test
+    void shouldDeliverEventsOnlyToAddressedDriver() {
+        DriverID driver = new DriverID(UUID.randomUUID());
+        DriverID otherDriver = new DriverID(UUID.randomUUID());
+        RideRequestID rideRequestID = new RideRequestID(UUID.randomUUID());
+
+        List<RideRequestEvent> received = new CopyOnWriteArrayList<>();
+        List<RideRequestEvent> receivedByOther = new CopyOnWriteArrayList<>();
+        events.stream(driver).subscribe().with(received::add);
+        events.stream(otherDriver).subscribe().with(receivedByOther::add);
+
+        events.accepted(driver, rideRequestID);
+
+        assertThat(received).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(RideRequestEvent.Type.ACCEPTED);
+            assertThat(event.rideRequestID()).isEqualTo(rideRequestID.value());
+        });
+        assertThat(receivedByOther).isEmpty();
+    }
+
+    @Test
+    void shouldStopDeliveringAfterSubscriberDisconnects() {
+        DriverID driver = new DriverID(UUID.randomUUID());
+
+        List<RideRequestEvent> received = new CopyOnWriteArrayList<>();
+        Cancellable subscription = events.stream(driver).subscribe().with(received::add);
+        subscription.cancel();
+
+        events.accepted(driver, new RideRequestID(UUID.randomUUID()));
+
+        assertThat(received).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package org.project.infrastructure.cache;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.application.dto.ride.RideRequestEvent;
+import org.project.application.pagination.PageRequest;
+import org.project.domain.ride.entities.RideRequest;
+import org.project.domain.ride.enumerations.RideRule;
+import org.project.domain.ride.value_object.*;
+import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.OwnerID;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.RedisTestResource;
+import org.project.features.util.TestDataGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@link RideRequestEvents#sweep} with a clock past the TTL, against a real Redis, instead of waiting for it.
+ */
+@QuarkusTest
+@QuarkusTestResource(value = PostgresTestResource.class)
+@QuarkusTestResource(value = RedisTestResource.class)
+class RideRequestExpirationTest {
+
+    private static final long AFTER_TTL = (RideRequests.TTL_SECONDS + 1) * 1000L;
+
+    @Inject
+    RideRequests rideRequests;
+
+    @Inject
+    RideRequestEvents events;
+
+    private final DriverID driver = new DriverID(UUID.randomUUID());
+
+    private final List<RideRequestEvent> received = new CopyOnWriteArrayList<>();
+
+    private Cancellable subscription;
+
+    @BeforeEach
+    void subscribe() {
+        subscription = events.stream(driver).subscribe().with(received::add);
+    }
+
+    @AfterEach
+    void cancel() {
+        subscription.cancel();
+    }
+
+    @Test
+    void shouldPublishExpiredOnceWhenTtlElapses() {
+        RideRequest rideRequest = rideRequest();
+        long putAt = System.currentTimeMillis();
+        rideRequests.put(driver, rideRequest);
+
+        events.sweep(putAt);
+        assertThat(received).isEmpty();
+
+        events.sweep(putAt + AFTER_TTL);
+        events.sweep(putAt + AFTER_TTL);
+
+        assertThat(received).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(RideRequestEvent.Type.EXPIRED);
+            assertThat(event.driverID()).isEqualTo(driver.value());
+            assertThat(event.rideRequestID()).isEqualTo(rideRequest.id().value());
+        });
+        assertThat(rideRequests.pageOf(driver, new PageRequest(10, 1))).isEmpty();
+    }
+
+    @Test
+    void shouldNotExpireAcceptedRequest() {
+        RideRequest rideRequest = rideRequest();
+        long putAt = System.currentTimeMillis();
+        rideRequests.put(driver, rideRequest);
+        assertThat(rideRequests.del(driver, rideRequest.id())).contains(rideRequest);
+
+        events.sweep(putAt + AFTER_TTL);
+
+        assertThat(received).isEmpty();
+        assertThat(rideRequests.expiredBy(putAt + AFTER_TTL, RideRequestEvents.SWEEP_BATCH_SIZE))
+                .doesNotContain(new RideRequests.Expiration(driver, rideRequest.id()));
+    }
+
+    @Test
+    void shouldExpireRequestsBeyondOneBatch() {
+        long putAt = System.currentTimeMillis();
+        int requests = RideRequestEvents.SWEEP_BATCH_SIZE + 5;
+        for (int i = 0; i < requests; i++)
+            rideRequests.put(driver, rideRequest());
+
+        events.sweep(putAt + AFTER_TTL);
+
+        assertThat(received).hasSize(requests)
+                .allSatisfy(event -> assertThat(event.type()).isEqualTo(RideRequestEvent.Type.EXPIRED));
+    }
+
+    private RideRequest rideRequest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new RideRequest(
+                new RideRequestID(UUID.randomUUID()),
+                driver,
+                new OwnerID(UUID.randomUUID()),
+                TestDataGenerator.generateLicensePlate(),
+                new Route(new Location("Baku", 40.4093, 49.8671), new Location("Ganja", 40.6828, 46.3606)),
+                new RideTime(start, start.plusHours(4)),
+                new Price(new BigDecimal("25.00")),
+                SeatMap.ofEmpty(3, 4),
+                new RideDesc("Round trip"),
+                EnumSet.of(RideRule.NO_SMOKING),
+                LocalDateTime.now());
+    }
+}
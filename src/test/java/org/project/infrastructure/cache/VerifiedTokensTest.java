@@ -0,0 +1,69 @@
+package org.project.infrastructure.cache;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokensTest {
+
+    private final VerifiedTokens verifiedTokens = new VerifiedTokens(OpenTelemetry.noop());
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokens.maxSize = 2;
+        verifiedTokens.init();
+    }
+
+    @Test
+    void shouldReturnIdentityOfVerifiedToken() {
+        SecurityIdentity identity = identity("user@example.com", 60);
+
+        verifiedTokens.put("token", identity);
+
+        assertThat(verifiedTokens.get("token")).containsSame(identity);
+        assertThat(verifiedTokens.get("other")).isEmpty();
+    }
+
+    @Test
+    void shouldNotKeepExpiredTokens() {
+        verifiedTokens.put("token", identity("user@example.com", -1));
+
+        assertThat(verifiedTokens.get("token")).isEmpty();
+    }
+
+    @Test
+    void shouldDropIdentitiesOfInvalidatedPrincipal() {
+        verifiedTokens.put("first", identity("banned@example.com", 60));
+        verifiedTokens.put("second", identity("user@example.com", 60));
+
+        verifiedTokens.invalidate("banned@example.com");
+
+        assertThat(verifiedTokens.get("first")).isEmpty();
+        assertThat(verifiedTokens.get("second")).isPresent();
+    }
+
+    @Test
+    void shouldStayWithinMaxSize() {
+        verifiedTokens.put("first", identity("first@example.com", 60));
+        verifiedTokens.put("second", identity("second@example.com", 60));
+        verifiedTokens.put("third", identity("third@example.com", 60));
+
+        assertThat(verifiedTokens.size()).isEqualTo(2);
+    }
+
+    private static SecurityIdentity identity(String upn, long expiresInSeconds) {
+        JsonWebToken jwt = mock(JsonWebToken.class);
+        when(jwt.getName()).thenReturn(upn);
+        when(jwt.getExpirationTime()).thenReturn(Instant.now().getEpochSecond() + expiresInSeconds);
+        return QuarkusSecurityIdentity.builder().setPrincipal(jwt).build();
+    }
+}
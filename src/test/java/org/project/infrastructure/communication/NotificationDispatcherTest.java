@@ -0,0 +1,101 @@
+package org.project.infrastructure.communication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.repositories.NotificationRepository;
+import org.project.domain.user.value_objects.Email;
+import org.project.domain.user.value_objects.Notification;
+import org.project.domain.user.value_objects.Phone;
+import org.project.domain.user.value_objects.QueuedNotification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationDispatcherTest {
+
+    private final NotificationRepository repository = mock(NotificationRepository.class);
+
+    private final EmailInteractionService email = mock(EmailInteractionService.class);
+
+    private final PhoneInteractionService phone = mock(PhoneInteractionService.class);
+
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(repository, email, phone);
+
+    private final Notification mail = Notification.email(new Email("user@example.com"), "Subject", "Body");
+
+    private final Notification sms = Notification.sms(new Phone("+994501234567"), "123456");
+
+    @BeforeEach
+    void start() {
+        dispatcher.batchSize = 10;
+        dispatcher.pollIntervalMillis = 3_600_000;
+        dispatcher.leaseSeconds = 60;
+        dispatcher.maxAttempts = 3;
+        dispatcher.emailConcurrency = 1;
+        dispatcher.smsConcurrency = 1;
+        dispatcher.onStart(null);
+
+        when(repository.remove(any())).thenReturn(Result.success(0));
+        when(repository.retry(any(), anyInt(), any(), anyString())).thenReturn(Result.success(1));
+        when(repository.fail(any(), anyInt(), anyString())).thenReturn(Result.success(1));
+    }
+
+    @AfterEach
+    void stop() {
+        dispatcher.onStop(null);
+    }
+
+    @Test
+    void shouldDeliverOverEachChannelAndRemoveDelivered() {
+        when(repository.claim(10, 60)).thenReturn(Result.success(List.of(
+                new QueuedNotification(mail, 0), new QueuedNotification(sms, 0))));
+
+        dispatcher.drain();
+
+        verify(email).sendMessage(new Email("user@example.com"), "Subject", "Body");
+        verify(phone).sendMessage(new Phone("+994501234567"), "123456");
+        verify(repository).remove(List.of(mail.id(), sms.id()));
+    }
+
+    @Test
+    void shouldRescheduleFailedDeliveryWithBackoff() {
+        when(repository.claim(10, 60)).thenReturn(Result.success(List.of(new QueuedNotification(mail, 0))));
+        doThrow(new IllegalStateException("SMTP down")).when(email).sendMessage(any(), any(), any());
+
+        dispatcher.drain();
+
+        verify(repository).retry(eq(mail.id()), eq(1), any(LocalDateTime.class), eq("SMTP down"));
+        verify(repository).remove(List.of());
+        assertThat(NotificationDispatcher.backoffSeconds(1)).isBetween(
+                NotificationDispatcher.BASE_BACKOFF_SECONDS / 2, NotificationDispatcher.BASE_BACKOFF_SECONDS);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        when(repository.claim(10, 60)).thenReturn(Result.success(List.of(new QueuedNotification(sms, 2))));
+        doThrow(new IllegalStateException("SMS gateway down")).when(phone).sendMessage(any(), any());
+
+        dispatcher.drain();
+
+        verify(repository).fail(sms.id(), 3, "SMS gateway down");
+        verify(repository, never()).retry(any(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    void shouldCapBackoff() {
+        assertThat(NotificationDispatcher.backoffSeconds(30)).isLessThanOrEqualTo(NotificationDispatcher.MAX_BACKOFF_SECONDS);
+    }
+}
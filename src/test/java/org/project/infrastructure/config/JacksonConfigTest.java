@@ -0,0 +1,66 @@
+package org.project.infrastructure.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.project.domain.ride.entities.RideRequest;
+import org.project.domain.ride.enumerations.RideRule;
+import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.value_object.*;
+import org.project.domain.shared.value_objects.DriverID;
+import org.project.domain.shared.value_objects.OwnerID;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.TestDataGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@QuarkusTestResource(value = PostgresTestResource.class)
+class JacksonConfigTest {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    void shouldRoundTripRideRequestWithSeatMap() throws Exception {
+        SeatMap seatMap = SeatMap.ofEmpty(3, 4)
+                .occupy(1, SeatStatus.MALE_OCCUPIED)
+                .occupy(6, SeatStatus.CHILD_OCCUPIED);
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        RideRequest rideRequest = new RideRequest(
+                new RideRequestID(UUID.randomUUID()),
+                new DriverID(UUID.randomUUID()),
+                new OwnerID(UUID.randomUUID()),
+                TestDataGenerator.generateLicensePlate(),
+                new Route(new Location("Baku", 40.4093, 49.8671), new Location("Ganja", 40.6828, 46.3606)),
+                new RideTime(start, start.plusHours(4)),
+                new Price(new BigDecimal("25.00")),
+                seatMap,
+                new RideDesc("Round trip"),
+                EnumSet.of(RideRule.NO_SMOKING),
+                start.minusDays(1));
+
+        String json = objectMapper.writeValueAsString(rideRequest);
+
+        JsonNode seats = objectMapper.readTree(json).get("seatMap").get("seats");
+        assertThat(seats.isArray()).isTrue();
+        assertThat(seats).hasSize(3);
+        assertThat(seats.get(0).get(1).asText()).isEqualTo(SeatStatus.MALE_OCCUPIED.name());
+        assertThat(seats.get(1).get(2).asText()).isEqualTo(SeatStatus.CHILD_OCCUPIED.name());
+
+        RideRequest read = objectMapper.readValue(json, RideRequest.class);
+
+        assertThat(read.seatMap()).isEqualTo(seatMap);
+        assertThat(read.seatMap().occupiedIndexes()).containsExactly(1, 6);
+        assertThat(read).isEqualTo(rideRequest);
+    }
+}
@@ -0,0 +1,65 @@
+package org.project.infrastructure.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalPictureStorageTest {
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path uploads;
+
+    private final LocalPictureStorage storage = new LocalPictureStorage();
+
+    @BeforeEach
+    void setUp() {
+        storage.root = root;
+    }
+
+    @Test
+    void shouldMoveStoredFileIntoPlace() throws IOException {
+        Path upload = Files.write(uploads.resolve("upload"), new byte[] { 1, 2, 3 });
+
+        storage.putFile("objects/ab/cd/abcd", upload);
+
+        assertThat(upload).doesNotExist();
+        assertThat(storage.exists("objects/ab/cd/abcd")).isTrue();
+        PictureStorage.StoredObject object = storage.get("objects/ab/cd/abcd").orElseThrow();
+        assertThat(object.size()).isEqualTo(3);
+        assertThat(object.path()).contains(root.resolve("objects/ab/cd/abcd"));
+        assertThat(object.readAllBytes()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldReplaceObjectsWithoutLeavingTemporaryFiles() throws IOException {
+        storage.putFile("objects/ab/cd/abcd_64", Files.write(uploads.resolve("first"), new byte[] { 1 }));
+        storage.putFile("objects/ab/cd/abcd_64", Files.write(uploads.resolve("second"), new byte[] { 2 }));
+
+        assertThat(storage.get("objects/ab/cd/abcd_64").orElseThrow().readAllBytes()).containsExactly(2);
+        try (var files = Files.list(root.resolve("objects/ab/cd"))) {
+            assertThat(files).containsExactly(root.resolve("objects/ab/cd/abcd_64"));
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyForMissingObjects() throws IOException {
+        assertThat(storage.exists("objects/00/00/0000")).isFalse();
+        assertThat(storage.get("objects/00/00/0000")).isEmpty();
+    }
+
+    @Test
+    void shouldRejectKeysOutsideRoot() {
+        assertThatThrownBy(() -> storage.get("../outside"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package org.project.infrastructure.files;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.project.domain.user.entities.User;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.TestDataGenerator;
+import org.project.infrastructure.files.PictureRefs.Ref;
+import org.project.infrastructure.repository.JetUserRepository;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@QuarkusTestResource(value = PostgresTestResource.class)
+class PictureRefsTest {
+
+    @Inject
+    PictureRefs refs;
+
+    @Inject
+    JetUserRepository userRepository;
+
+    @Test
+    void shouldKeepCurrentPictureOnUserRow() throws IOException {
+        User user = TestDataGenerator.user();
+        assertThat(userRepository.save(user).success()).isTrue();
+        assertThat(refs.find(user.id())).isEmpty();
+
+        refs.save(user.id(), new Ref("a".repeat(64), "png"));
+        refs.save(user.id(), new Ref("b".repeat(64), "jpeg"));
+
+        assertThat(refs.find(user.id())).contains(new Ref("b".repeat(64), "jpeg"));
+    }
+
+    @Test
+    void shouldRefuseRefOfUnknownUser() throws IOException {
+        UUID unknown = UUID.randomUUID();
+
+        assertThatThrownBy(() -> refs.save(unknown, new Ref("a".repeat(64), "png")))
+                .isInstanceOf(IOException.class);
+        assertThat(refs.find(unknown)).isEmpty();
+    }
+}
@@ -0,0 +1,119 @@
+package org.project.infrastructure.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
+import org.project.domain.user.value_objects.ProfilePicture;
+import org.project.infrastructure.files.PictureRefs.Ref;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfilePictureRepositoryTest {
+
+    private static final byte[] PNG = { (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A };
+
+    @TempDir
+    Path root;
+
+    private final ProfilePictureVariants variants = mock(ProfilePictureVariants.class);
+
+    private final PictureRefs refs = mock(PictureRefs.class);
+
+    private final Map<UUID, Ref> savedRefs = new ConcurrentHashMap<>();
+
+    private ProfilePictureRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        doAnswer(invocation -> savedRefs.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(refs).save(any(), any());
+        when(refs.find(any())).thenAnswer(invocation -> Optional.ofNullable(savedRefs.get(invocation.<UUID>getArgument(0))));
+
+        LocalPictureStorage storage = new LocalPictureStorage();
+        storage.root = root;
+        repository = new ProfilePictureRepository(storage, refs, variants);
+    }
+
+    @Test
+    void shouldStoreIdenticalPicturesOnce() throws IOException {
+        PictureFile first = repository.store(UUID.randomUUID(), new ByteArrayInputStream(PNG));
+        PictureFile second = repository.store(UUID.randomUUID(), new ByteArrayInputStream(PNG));
+
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(first.imageType()).isEqualTo("png");
+        try (Stream<Path> objects = Files.walk(root.resolve("objects"))) {
+            assertThat(objects.filter(Files::isRegularFile)).hasSize(1);
+        }
+        verify(variants, times(2)).schedule(first.etag());
+    }
+
+    @Test
+    void shouldKeepRefsOutOfStorage() throws IOException {
+        UUID userID = UUID.randomUUID();
+        PictureFile file = repository.store(userID, new ByteArrayInputStream(PNG));
+
+        assertThat(savedRefs).containsEntry(userID, new Ref(file.etag(), "png"));
+        try (Stream<Path> entries = Files.list(root)) {
+            assertThat(entries).containsExactly(root.resolve("objects"));
+        }
+    }
+
+    @Test
+    void shouldFanObjectsOutByDigest() {
+        PictureFile file = repository.store(UUID.randomUUID(), new ByteArrayInputStream(PNG));
+
+        String digest = file.etag();
+        assertThat(root.resolve("objects").resolve(digest.substring(0, 2)).resolve(digest.substring(2, 4)).resolve(digest))
+                .exists();
+    }
+
+    @Test
+    void shouldServeOriginalAndScheduleWhileVariantIsMissing() {
+        UUID userID = UUID.randomUUID();
+        PictureFile original = repository.store(userID, new ByteArrayInputStream(PNG));
+
+        PictureFile served = repository.file(userID, 64).orElseThrow();
+
+        assertThat(served.etag()).isEqualTo(original.etag());
+        verify(variants, times(2)).schedule(original.etag());
+    }
+
+    @Test
+    void shouldLoadPictureOfUser() {
+        UUID userID = UUID.randomUUID();
+        repository.store(userID, new ByteArrayInputStream(PNG));
+
+        ProfilePicture picture = repository.load(userID).orElseThrow();
+
+        assertThat(picture.profilePicture()).isEqualTo(PNG);
+        assertThat(repository.load(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectOversizePictures() {
+        byte[] oversize = new byte[ProfilePicture.MAX_SIZE + 1];
+        System.arraycopy(PNG, 0, oversize, 0, PNG.length);
+
+        assertThatThrownBy(() -> repository.store(UUID.randomUUID(), new ByteArrayInputStream(oversize)))
+                .isInstanceOf(IllegalDomainArgumentException.class);
+        assertThat(root.resolve("objects")).doesNotExist();
+    }
+}
@@ -0,0 +1,119 @@
+package org.project.infrastructure.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfilePictureVariantsTest {
+
+    @TempDir
+    Path root;
+
+    private LocalPictureStorage storage;
+
+    private ProfilePictureVariants variants;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalPictureStorage();
+        storage.root = root;
+        variants = new ProfilePictureVariants(storage);
+        variants.maxPixels = 50_000_000;
+    }
+
+    @Test
+    void shouldFitVariantsWithinEachSize() throws IOException {
+        String digest = picture(1600, 800, "jpeg");
+
+        variants.render(digest);
+
+        assertThat(dimensions(digest, 64)).containsExactly(64, 32);
+        assertThat(dimensions(digest, 256)).containsExactly(256, 128);
+        assertThat(dimensions(digest, 512)).containsExactly(512, 256);
+    }
+
+    @Test
+    void shouldNotEnlargeSmallPictures() throws IOException {
+        String digest = picture(100, 40, "png");
+
+        variants.render(digest);
+
+        assertThat(dimensions(digest, 512)).containsExactly(100, 40);
+        assertThat(dimensions(digest, 64)).containsExactly(64, 26);
+    }
+
+    @Test
+    void shouldKeepVariantsAlreadyRendered() throws IOException {
+        String digest = picture(300, 300, "png");
+        byte[] rendered = "rendered".getBytes(StandardCharsets.US_ASCII);
+        storage.put(ProfilePictureRepository.variantKey(digest, 64), rendered);
+
+        variants.render(digest);
+
+        assertThat(storage.get(ProfilePictureRepository.variantKey(digest, 64)).orElseThrow().readAllBytes())
+                .isEqualTo(rendered);
+        assertThat(storage.exists(ProfilePictureRepository.variantKey(digest, 256))).isTrue();
+    }
+
+    @Test
+    void shouldNotDecodePicturesOverPixelCap() throws IOException {
+        variants.maxPixels = 1_000;
+        String digest = picture(100, 40, "png");
+
+        variants.render(digest);
+
+        assertThat(storage.exists(ProfilePictureRepository.variantKey(digest, 64))).isFalse();
+    }
+
+    @Test
+    void shouldSubsampleByLongSide() {
+        assertThat(ProfilePictureVariants.subsampling(65535, 1024)).isEqualTo(63);
+        assertThat(ProfilePictureVariants.subsampling(1024, 65535)).isEqualTo(63);
+        assertThat(ProfilePictureVariants.subsampling(1600, 800)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFitVariantsOfLongThinPictures() throws IOException {
+        String digest = picture(8192, 16, "png");
+
+        variants.render(digest);
+
+        assertThat(dimensions(digest, 512)).containsExactly(512, 1);
+    }
+
+    @Test
+    void shouldIgnorePicturesNotStored() throws IOException {
+        String digest = "0".repeat(64);
+
+        variants.render(digest);
+
+        assertThat(storage.exists(ProfilePictureRepository.variantKey(digest, 64))).isFalse();
+    }
+
+    private String picture(int width, int height, String format) throws IOException {
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, output);
+
+        String digest = UUID.randomUUID().toString().replace("-", "");
+        storage.put(ProfilePictureRepository.objectKey(digest), output.toByteArray());
+        return digest;
+    }
+
+    private int[] dimensions(String digest, int size) throws IOException {
+        byte[] variant = storage.get(ProfilePictureRepository.variantKey(digest, size)).orElseThrow().readAllBytes();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(variant));
+        return new int[] { image.getWidth(), image.getHeight() };
+    }
+}
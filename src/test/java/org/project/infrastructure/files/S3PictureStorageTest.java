@@ -0,0 +1,70 @@
+package org.project.infrastructure.files;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.MinIOContainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3PictureStorageTest {
+
+    private static MinIOContainer minio;
+
+    private static S3PictureStorage storage;
+
+    @TempDir
+    Path uploads;
+
+    @BeforeAll
+    static void startMinio() throws IOException {
+        minio = new MinIOContainer("minio/minio:latest");
+        minio.start();
+
+        storage = new S3PictureStorage();
+        storage.endpoint = minio.getS3URL();
+        storage.accessKey = minio.getUserName();
+        storage.secretKey = minio.getPassword();
+        storage.bucket = "profile-pictures";
+        storage.start();
+    }
+
+    @AfterAll
+    static void stopMinio() {
+        if (minio != null)
+            minio.stop();
+    }
+
+    @Test
+    void shouldUploadFileAndDeleteIt() throws IOException {
+        Path upload = Files.write(uploads.resolve("upload"), new byte[] { 1, 2, 3 });
+
+        storage.putFile("objects/ab/cd/abcd", upload);
+
+        assertThat(upload).doesNotExist();
+        assertThat(storage.exists("objects/ab/cd/abcd")).isTrue();
+        PictureStorage.StoredObject object = storage.get("objects/ab/cd/abcd").orElseThrow();
+        assertThat(object.size()).isEqualTo(3);
+        assertThat(object.path()).isEmpty();
+        assertThat(object.readAllBytes()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldReplaceObjects() throws IOException {
+        storage.putFile("objects/ab/cd/abcd_64", Files.write(uploads.resolve("first"), new byte[] { 1 }));
+        storage.putFile("objects/ab/cd/abcd_64", Files.write(uploads.resolve("second"), new byte[] { 2 }));
+
+        assertThat(storage.get("objects/ab/cd/abcd_64").orElseThrow().readAllBytes()).containsExactly(2);
+    }
+
+    @Test
+    void shouldReturnEmptyForMissingObjects() throws IOException {
+        assertThat(storage.exists("objects/00/00/0000")).isFalse();
+        assertThat(storage.get("objects/00/00/0000")).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package org.project.infrastructure.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    void shouldEncodeKnownCoordinates() {
+        assertEquals("u4pruydqq", GeoHash.encode(57.64911, 10.40744));
+        assertEquals("tp5my", GeoHash.encode(40.4093, 49.8671, 5));
+    }
+
+    @Test
+    void coverShouldContainEveryPointInsideRadius() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 1_000; i++) {
+            double latitude = random.nextDouble(-80, 80);
+            double longitude = random.nextDouble(-179, 179);
+            double radiusKm = random.nextDouble(1, 100);
+            String[] cells = GeoHash.cover(latitude, longitude, radiusKm);
+
+            double bearing = random.nextDouble(0, 2 * Math.PI);
+            double distance = random.nextDouble(0, radiusKm) / GeoHash.EARTH_RADIUS_KM;
+            double pointLatitude = latitude + Math.toDegrees(distance * Math.cos(bearing));
+            double pointLongitude = longitude + Math.toDegrees(distance * Math.sin(bearing)) / Math.cos(Math.toRadians(pointLatitude));
+
+            if (GeoHash.distanceKm(latitude, longitude, pointLatitude, pointLongitude) > radiusKm)
+                continue;
+
+            String pointHash = GeoHash.encode(pointLatitude, pointLongitude);
+            assertTrue(Arrays.stream(cells).anyMatch(pointHash::startsWith),
+                    "Point %s is not covered by %s".formatted(pointHash, Arrays.toString(cells)));
+        }
+    }
+
+    @Test
+    void boundingBoxShouldSpanWholeLongitudeNearAntimeridian() {
+        GeoHash.BoundingBox box = GeoHash.boundingBox(10, 179.9, 50);
+        assertEquals(-180.0, box.minLongitude());
+        assertEquals(180.0, box.maxLongitude());
+    }
+
+    @Test
+    void distanceBetweenBakuAndSumqayit() {
+        double distance = GeoHash.distanceKm(40.4093, 49.8671, 40.5897, 49.6686);
+        assertTrue(distance > 25 && distance < 28, "Unexpected distance " + distance);
+    }
+}
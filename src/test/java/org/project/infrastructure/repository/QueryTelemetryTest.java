@@ -0,0 +1,93 @@
+package org.project.infrastructure.repository;
+
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryTelemetryTest {
+
+    private QueryTelemetry telemetry;
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        telemetry = spy(new QueryTelemetry(OpenTelemetry.noop()));
+        telemetry.slowThresholdMillis = 0;
+        telemetry.slowSampleRate = 1.0;
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(JetRideRepository.ACTUAL_FOR)).thenReturn(statement);
+    }
+
+    @Test
+    void shouldNameStatementsAfterRepositoryConstants() {
+        assertThat(telemetry.nameOf(JetRideRepository.ACTUAL_FOR)).isEqualTo("ride.ACTUAL_FOR");
+        assertThat(telemetry.nameOf(JetDriverRepository.FIND_BY_USER_ID)).isEqualTo("driver.FIND_BY_USER_ID");
+        assertThat(telemetry.nameOf("  select 1")).isEqualTo("other.select");
+    }
+
+    @Test
+    void shouldCountRowsAndLogParameterTypes() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        try (Connection observed = telemetry.observe(dataSource).getConnection();
+             PreparedStatement prepared = observed.prepareStatement(JetRideRepository.ACTUAL_FOR)) {
+            prepared.setObject(1, UUID.randomUUID());
+            prepared.setInt(3, 10);
+            try (ResultSet rows = prepared.executeQuery()) {
+                while (rows.next()) {
+                    // read every row
+                }
+            }
+        }
+
+        verify(telemetry).slow(eq("ride.ACTUAL_FOR"), eq(JetRideRepository.ACTUAL_FOR), eq(List.of("UUID", "?", "Integer")), anyLong());
+        verify(telemetry).rows(JetRideRepository.ACTUAL_FOR, 2);
+        verify(statement).setInt(3, 10);
+    }
+
+    @Test
+    void shouldRethrowFailuresOfTheDriver() throws SQLException {
+        SQLException failure = new SQLException("boom");
+        when(statement.executeUpdate()).thenThrow(failure);
+
+        PreparedStatement prepared = telemetry.observe(dataSource).getConnection()
+                .prepareStatement(JetRideRepository.ACTUAL_FOR);
+
+        assertThatThrownBy(prepared::executeUpdate).isSameAs(failure);
+    }
+
+    @Test
+    void shouldLogOnlySlowSampledQueries() {
+        telemetry.slowThresholdMillis = 200;
+        assertThat(telemetry.isLoggedAsSlow(199_000_000)).isFalse();
+        assertThat(telemetry.isLoggedAsSlow(200_000_000)).isTrue();
+
+        telemetry.slowSampleRate = 0;
+        assertThat(telemetry.isLoggedAsSlow(200_000_000)).isFalse();
+    }
+}
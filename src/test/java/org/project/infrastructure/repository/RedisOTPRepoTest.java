@@ -0,0 +1,184 @@
+package org.project.infrastructure.repository;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.domain.shared.containers.Result;
+import org.project.domain.user.entities.OTP;
+import org.project.domain.user.entities.User;
+import org.project.domain.user.repositories.NotificationRepository;
+import org.project.domain.user.value_objects.Notification;
+import org.project.features.util.PostgresTestResource;
+import org.project.features.util.RedisTestResource;
+import org.project.features.util.TestDataGenerator;
+import org.project.infrastructure.security.Digests;
+import org.project.infrastructure.security.HOTPGenerator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link RedisOTPRepository} against a real Redis, so the save and delete scripts and the key expiry are
+ * exercised. The test profile selects the JDBC store, so the repository is built here rather than injected.
+ */
+@QuarkusTest
+@QuarkusTestResource(value = PostgresTestResource.class)
+@QuarkusTestResource(value = RedisTestResource.class)
+public class RedisOTPRepoTest {
+
+    @Inject
+    Instance<RedisDataSource> redis;
+
+    private NotificationRepository notificationRepository;
+
+    private RedisOTPRepository otpRepo;
+
+    private HOTPGenerator hotpGenerator;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository = mock(NotificationRepository.class);
+        when(notificationRepository.enqueue(any())).thenReturn(Result.success(1));
+        otpRepo = new RedisOTPRepository(redis, notificationRepository);
+        hotpGenerator = new HOTPGenerator();
+    }
+
+    @Test
+    public void saveAndFindByCodeAndByUser() {
+        User user = TestDataGenerator.user();
+        OTP otp = otp(user);
+
+        var saveResult = otpRepo.save(otp);
+
+        assertTrue(saveResult.success());
+        assertEquals(1, saveResult.value());
+        assertTrue(otpRepo.contains(user.id()));
+
+        var byCode = otpRepo.findBy(otp.otp());
+        assertTrue(byCode.success());
+        assertEquals(otp, byCode.value());
+        assertEquals(user.id(), byCode.value().userID());
+        assertFalse(byCode.value().isConfirmed());
+
+        var byUser = otpRepo.findBy(user.id());
+        assertTrue(byUser.success());
+        assertEquals(otp, byUser.value());
+    }
+
+    @Test
+    public void refuseDuplicateCodeAndSecondLiveOTP() {
+        User user = TestDataGenerator.user();
+        OTP otp = otp(user);
+        assertTrue(otpRepo.save(otp).success());
+
+        OTP sameCode = OTP.fromRepository(otp.otp(), UUID.randomUUID(), false,
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(OTP.EXPIRATION_TIME));
+        assertFalse(otpRepo.save(sameCode).success());
+
+        OTP secondForUser = OTP.fromRepository(otherCode(otp.otp()), user.id(), false,
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(OTP.EXPIRATION_TIME));
+        assertFalse(otpRepo.save(secondForUser).success());
+
+        assertEquals(otp, otpRepo.findBy(user.id()).value());
+        assertFalse(otpRepo.findBy(secondForUser.otp()).success());
+    }
+
+    @Test
+    public void expireBothKeysWithTheOTP() throws InterruptedException {
+        User user = TestDataGenerator.user();
+        LocalDateTime now = LocalDateTime.now();
+        OTP otp = OTP.fromRepository(code(user), user.id(), false, now, now.plusNanos(700_000_000));
+
+        assertTrue(otpRepo.save(otp).success());
+
+        long codeTtl = redis.get().key().pttl(RedisOTPRepository.CODE_PREFIX + Digests.sha256(otp.otp()));
+        long userTtl = redis.get().key().pttl(RedisOTPRepository.USER_PREFIX + user.id());
+        assertTrue(codeTtl > 0 && codeTtl <= 700, "code key ttl " + codeTtl);
+        assertTrue(userTtl > 0 && userTtl <= 700, "user key ttl " + userTtl);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (otpRepo.contains(user.id()) && System.nanoTime() < deadline)
+            Thread.sleep(100);
+
+        assertFalse(otpRepo.contains(user.id()));
+        assertFalse(otpRepo.findBy(otp.otp()).success());
+        assertFalse(otpRepo.findBy(user.id()).success());
+    }
+
+    @Test
+    public void onlyOneOfConcurrentConfirmationsSucceeds() throws Exception {
+        User user = TestDataGenerator.user();
+        OTP otp = otp(user);
+        assertTrue(otpRepo.save(otp).success());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Result<Integer, Throwable>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                OTP loaded = otpRepo.findBy(otp.otp()).value();
+                loaded.confirm();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return otpRepo.updateConfirmation(loaded);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Result<Integer, Throwable>> future : futures) {
+                if (future.get(10, TimeUnit.SECONDS).success())
+                    succeeded++;
+            }
+
+            assertEquals(1, succeeded);
+            assertFalse(otpRepo.contains(user.id()));
+            assertFalse(otpRepo.findBy(otp.otp()).success());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void removeOTPWhenNotificationCannotBeQueued() {
+        when(notificationRepository.enqueue(any()))
+                .thenReturn(Result.failure(new IllegalStateException("Outbox is unavailable.")));
+
+        User user = TestDataGenerator.user();
+        OTP otp = otp(user);
+        Notification notification = new Notification(UUID.randomUUID(), Notification.Channel.SMS, "+994501234567", "", otp.otp());
+
+        var result = otpRepo.save(otp, notification);
+
+        assertFalse(result.success());
+        assertFalse(otpRepo.contains(user.id()));
+        assertFalse(otpRepo.findBy(otp.otp()).success());
+        assertFalse(otpRepo.findBy(user.id()).success());
+    }
+
+    private OTP otp(User user) {
+        return OTP.of(user, code(user));
+    }
+
+    private String code(User user) {
+        return hotpGenerator.generateHOTP(user.keyAndCounter().key(), user.keyAndCounter().counter());
+    }
+
+    private static String otherCode(String code) {
+        char last = code.charAt(code.length() - 1);
+        return code.substring(0, code.length() - 1) + (last == '9' ? '0' : (char) (last + 1));
+    }
+}
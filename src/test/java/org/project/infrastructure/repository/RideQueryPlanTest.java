@@ -0,0 +1,101 @@
+package org.project.infrastructure.repository;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.project.features.util.PostgresTestResource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the ride listing queries against predicates that stop them from using their indexes.
+ * Sequential scans are disabled for the planner, so a plan still containing one means no index could serve the query.
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresTestResource.class)
+class RideQueryPlanTest {
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void driverRidesUseDriverIndex() throws SQLException {
+        String id = UUID.randomUUID().toString();
+
+        assertThat(plan(JetRideRepository.FIND_BY_DRIVER_ID, id, 10, 0))
+                .contains("idx_ride_driver_start_time")
+                .doesNotContain("Seq Scan");
+        assertThat(plan(JetRideRepository.FIND_BY_DRIVER_ID_AFTER, id, LocalDateTime.now(), UUID.randomUUID().toString(), 10, 0))
+                .contains("idx_ride_driver_start_time")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void ownerRidesUseOwnerIndex() throws SQLException {
+        String id = UUID.randomUUID().toString();
+
+        assertThat(plan(JetRideRepository.FIND_BY_OWNER_ID, id, 10, 0))
+                .contains("idx_ride_owner_start_time")
+                .doesNotContain("Seq Scan");
+        assertThat(plan(JetRideRepository.FIND_BY_OWNER_ID_AFTER, id, LocalDateTime.now(), UUID.randomUUID().toString(), 10, 0))
+                .contains("idx_ride_owner_start_time")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void ridesByDateSeekStartTimeRange() throws SQLException {
+        LocalDate date = LocalDate.now();
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
+
+        assertThat(plan(JetRideRepository.FIND_BY_DATE, dayStart, dayEnd, 10, 0))
+                .contains("idx_ride_start_time_id")
+                .contains("Index Cond")
+                .doesNotContain("Seq Scan");
+        assertThat(plan(JetRideRepository.FIND_BY_DATE_AFTER, dayStart, dayEnd, dayStart.plusHours(12), UUID.randomUUID().toString(), 10, 0))
+                .contains("idx_ride_start_time_id")
+                .contains("Index Cond")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void upcomingRidesUseIndex() throws SQLException {
+        assertThat(plan(JetRideRepository.UPCOMING, LocalDateTime.now(), 10, 0))
+                .contains("Index Cond")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String plan(String sql, Object... params) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+            }
+
+            StringJoiner plan = new StringJoiner("\n");
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < params.length; i++) explain.setObject(i + 1, params[i]);
+
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) plan.add(rs.getString(1));
+                }
+            } finally {
+                connection.rollback();
+            }
+
+            return plan.toString();
+        }
+    }
+}
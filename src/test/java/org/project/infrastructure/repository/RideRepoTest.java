@@ -5,13 +5,17 @@ import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.project.application.dto.ride.RideDTO;
+import org.project.application.pagination.CursorRequest;
 import org.project.application.pagination.PageRequest;
 import org.project.domain.fleet.entities.Driver;
 import org.project.domain.fleet.entities.Owner;
 import org.project.domain.ride.entities.Ride;
 import org.project.domain.ride.enumerations.RideRule;
 import org.project.domain.ride.enumerations.SeatStatus;
+import org.project.domain.ride.exceptions.SeatConflictException;
 import org.project.domain.ride.value_object.*;
+import org.project.domain.shared.exceptions.IllegalDomainArgumentException;
 import org.project.domain.shared.value_objects.DriverID;
 import org.project.domain.shared.value_objects.OwnerID;
 import org.project.domain.shared.value_objects.UserID;
@@ -19,9 +23,12 @@ import org.project.features.util.PostgresTestResource;
 import org.project.features.util.TestDataGenerator;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -170,6 +177,10 @@ class RideRepoTest {
         var updateSeatsResult = rideRepo.updateSeats(ride);
         assertThat(updateSeatsResult.success()).isTrue();
         assertThat(updateSeatsResult.value()).isEqualTo(1);
+
+        var staleUpdateResult = rideRepo.updateSeats(ride);
+        assertThat(staleUpdateResult.success()).isFalse();
+        assertThat(staleUpdateResult.throwable()).isInstanceOf(SeatConflictException.class);
     }
 
     @Test
@@ -333,6 +344,8 @@ class RideRepoTest {
 
         var findResult = rideRepo.findBy(ride.id());
         assertThat(findResult.success()).isTrue();
+        assertThat(findResult.value().seatMap()).isEqualTo(ride.seatMap());
+        assertThat(findResult.value().rideRules()).isEqualTo(ride.rideRules());
     }
 
     @Test
@@ -460,6 +473,42 @@ class RideRepoTest {
         assertThat(findByOwnerIdResult.success()).isTrue();
     }
 
+    @Test
+    void page_driver_rides_by_cursor() {
+        var driver = savedDriverWithRides(7);
+
+        var firstPage = rideRepo.pageOf(driver.id(), new PageRequest(5, 1)).orElseThrow();
+        assertThat(firstPage).hasSize(5);
+
+        var secondPage = rideRepo.pageOf(driver.id(), new CursorRequest(5, cursorKey(firstPage.getLast()))).orElseThrow();
+        assertThat(secondPage).hasSize(2);
+
+        var allRides = new ArrayList<>(firstPage);
+        allRides.addAll(secondPage);
+        assertThat(allRides).extracting(RideDTO::id).doesNotHaveDuplicates();
+        assertThat(allRides).extracting(RideDTO::startTime).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void page_driver_rides_after_key_of_unknown_ride() {
+        var driver = savedDriverWithRides(3);
+        var unknownRide = List.of(LocalDateTime.now().plusYears(1).toString(), UUID.randomUUID().toString());
+
+        var page = rideRepo.pageOf(driver.id(), new CursorRequest(5, unknownRide)).orElseThrow();
+
+        assertThat(page).hasSize(3);
+    }
+
+    @Test
+    void reject_malformed_cursor() {
+        var driver = savedDriverWithRides(1);
+
+        assertThatThrownBy(() -> rideRepo.pageOf(driver.id(), new CursorRequest(5, List.of(UUID.randomUUID().toString()))))
+                .isInstanceOf(IllegalDomainArgumentException.class);
+        assertThatThrownBy(() -> rideRepo.pageOf(driver.id(), new CursorRequest(5, List.of("yesterday", "ride"))))
+                .isInstanceOf(IllegalDomainArgumentException.class);
+    }
+
     @Test
     void find_by_invalid_driver_id() {
         var driverUser = TestDataGenerator.user();
@@ -665,8 +714,9 @@ class RideRepoTest {
         var rideSaveResult = rideRepo.save(ride);
         assertThat(rideSaveResult.success()).isTrue();
 
-        var findByLocation = rideRepo.actualFor(ride.route().from(), ride.route().to(), ride.dates().createdAt().toLocalDate(), new PageRequest(5, 0));
+        var findByLocation = rideRepo.actualFor(ride.route().from(), ride.route().to(), SearchRadius.defaultRadius(), ride.dates().createdAt().toLocalDate(), new PageRequest(5, 0));
         assertThat(findByLocation.success()).isTrue();
+        assertThat(findByLocation.value()).anyMatch(rideDTO -> rideDTO.id().equals(ride.id().value().toString()));
     }
 
     @Test
@@ -696,9 +746,75 @@ class RideRepoTest {
         var rideSaveResult = rideRepo.save(ride);
         assertThat(rideSaveResult.success()).isTrue();
 
-        var findByLocationResult = rideRepo.actualFor(TestDataGenerator.generateLocation(), TestDataGenerator.generateLocation(), ride.dates().createdAt().toLocalDate(), new PageRequest(5, 0));
+        var findByLocationResult = rideRepo.actualFor(TestDataGenerator.generateLocation(), TestDataGenerator.generateLocation(), SearchRadius.defaultRadius(), ride.dates().createdAt().toLocalDate(), new PageRequest(5, 0));
         if (findByLocationResult.success()) {
             assertThat(findByLocationResult.value().isEmpty()).isTrue();
         }
     }
+
+    @Test
+    void reject_booking_with_stale_version() {
+        var driverUser = TestDataGenerator.user();
+        var driver = Driver.of(UserID.fromString(driverUser.id().toString()), TestDataGenerator.driverLicense());
+        var car = TestDataGenerator.car(new UserID(driverUser.id()));
+
+        assertThat(userRepo.save(driverUser).success()).isTrue();
+        assertThat(driverRepo.save(driver).success()).isTrue();
+        assertThat(carRepo.save(car).success()).isTrue();
+
+        var ride = Ride.of(car.id(), new RideOwner(driver.id(), null),
+                TestDataGenerator.generateRoute(),
+                TestDataGenerator.generateRideTime(),
+                TestDataGenerator.generatePrice(),
+                SeatMap.ofEmpty(2, 2),
+                TestDataGenerator.generateRideDesc(),
+                TestDataGenerator.generateRideRules());
+        assertThat(rideRepo.save(ride).success()).isTrue();
+
+        var first = rideRepo.findBy(ride.id()).value();
+        var second = rideRepo.findBy(ride.id()).value();
+
+        var firstContract = first.book(new UserID(driverUser.id()),
+                new BookedSeats(List.of(new PassengerSeat(1, SeatStatus.MALE_OCCUPIED))));
+        var firstResult = rideRepo.book(first, firstContract);
+        assertThat(firstResult.success()).isTrue();
+        assertThat(firstResult.value()).isEqualTo(1);
+
+        var secondContract = second.book(new UserID(driverUser.id()),
+                new BookedSeats(List.of(new PassengerSeat(2, SeatStatus.FEMALE_OCCUPIED))));
+        var secondResult = rideRepo.book(second, secondContract);
+        assertThat(secondResult.success()).isTrue();
+        assertThat(secondResult.value()).isZero();
+
+        var stored = rideRepo.findBy(ride.id()).value();
+        assertThat(stored.version()).isEqualTo(1);
+        assertThat(stored.seatMap().isAvailable(1)).isFalse();
+        assertThat(stored.seatMap().isAvailable(2)).isTrue();
+    }
+
+    private Driver savedDriverWithRides(int rides) {
+        var driverUser = TestDataGenerator.user();
+        var driver = Driver.of(UserID.fromString(driverUser.id().toString()), TestDataGenerator.driverLicense());
+        var car = TestDataGenerator.car(new UserID(driverUser.id()));
+
+        assertThat(userRepo.save(driverUser).success()).isTrue();
+        assertThat(driverRepo.save(driver).success()).isTrue();
+        assertThat(carRepo.save(car).success()).isTrue();
+
+        for (int i = 0; i < rides; i++) {
+            var ride = Ride.of(car.id(), new RideOwner(driver.id(), null),
+                    TestDataGenerator.generateRoute(),
+                    TestDataGenerator.generateRideTime(),
+                    TestDataGenerator.generatePrice(),
+                    TestDataGenerator.generateSeatMap(),
+                    TestDataGenerator.generateRideDesc(),
+                    TestDataGenerator.generateRideRules());
+            assertThat(rideRepo.save(ride).success()).isTrue();
+        }
+        return driver;
+    }
+
+    private static List<String> cursorKey(RideDTO ride) {
+        return ride.sortKey().stream().map(String::valueOf).toList();
+    }
 }
@@ -60,6 +60,21 @@ public class UserRepoTest {
         assertEquals(1, refreshTokenSaveResult.value());
     }
 
+    @ParameterizedTest
+    @MethodSource("userProvider")
+    public void findRefreshTokenByDigest(User user) {
+        var token = new RefreshToken(user.id(), jwtUtility.generateRefreshToken(user));
+
+        assertTrue(repo.save(user).success());
+        assertTrue(repo.saveRefreshToken(token).success());
+
+        var findResult = repo.findRefreshToken(token.refreshToken());
+
+        assertTrue(findResult.success());
+        assertEquals(token, findResult.value());
+        assertFalse(repo.findRefreshToken(jwtUtility.generateRefreshToken(TestDataGenerator.user())).success());
+    }
+
     @ParameterizedTest
     @MethodSource("userProvider")
     public void successfullyUpdateCounter(User user) {
@@ -0,0 +1,95 @@
+package org.project.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HOTPGeneratorTest {
+
+    /**
+     * RFC 4226, Appendix D: HmacSHA1, 6 digits, counters 0 to 9.
+     */
+    private static final String RFC_KEY = Base64.getEncoder()
+            .encodeToString("12345678901234567890".getBytes(StandardCharsets.US_ASCII));
+
+    private static final String[] RFC_CODES = {
+            "755224", "287082", "359152", "969429", "338314", "254676", "287922", "162583", "399871", "520489"
+    };
+
+    private final HOTPGenerator generator = new HOTPGenerator("HmacSHA1", 6);
+
+    @Test
+    void shouldMatchRfcVectors() {
+        for (int counter = 0; counter < RFC_CODES.length; counter++)
+            assertThat(generator.generateHOTP(RFC_KEY, counter)).isEqualTo(RFC_CODES[counter]);
+    }
+
+    @Test
+    void shouldMatchRfcVectorsAcrossThreadsAndKeys() throws Exception {
+        int threads = 8;
+        String otherKey = HOTPGenerator.generateSecretKey();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int round = 0; round < 2_000; round++) {
+                        int counter = round % RFC_CODES.length;
+                        if (!generator.generateHOTP(RFC_KEY, counter).equals(RFC_CODES[counter]))
+                            mismatches++;
+                        // Switch keys on the same thread so the cached key is exercised too
+                        generator.generateHOTP(otherKey, round);
+                    }
+                    return mismatches;
+                }));
+            }
+
+            start.countDown();
+            for (Future<Integer> result : results)
+                assertThat(result.get()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFindCounterWithinLookAheadWindow() {
+        assertThat(generator.verifyHOTP(RFC_KEY, 3, 4, RFC_CODES[6])).hasValue(6);
+        assertThat(generator.verifyHOTP(RFC_KEY, 3, 2, RFC_CODES[6])).isEmpty();
+        assertThat(generator.verifyHOTP(RFC_KEY, 3, 4, RFC_CODES[1])).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMalformedCodes() {
+        assertThat(generator.verifyHOTP(RFC_KEY, 0, 9, "75522")).isEmpty();
+        assertThat(generator.verifyHOTP(RFC_KEY, 0, 9, "75522a")).isEmpty();
+        assertThat(generator.verifyHOTP(RFC_KEY, 0, 9, null)).isEmpty();
+    }
+
+    @Test
+    void shouldZeroPadLongerCodes() {
+        HOTPGenerator eightDigits = new HOTPGenerator("HmacSHA1", 8);
+
+        String code = eightDigits.generateHOTP(RFC_KEY, 0);
+
+        assertThat(code).hasSize(8).endsWith(RFC_CODES[0]);
+    }
+
+    @Test
+    void shouldRejectUnsupportedAlgorithmUpFront() {
+        assertThatThrownBy(() -> new HOTPGenerator("HmacMD42")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package org.project.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderTest {
+
+    private final PasswordEncoder encoder = new PasswordEncoder(OpenTelemetry.noop());
+
+    @BeforeEach
+    void start() {
+        encoder.permits = 1;
+        encoder.queueSize = 1;
+        encoder.timeoutMillis = 10_000;
+        encoder.targetMillis = 0;
+        encoder.start();
+    }
+
+    @AfterEach
+    void stop() {
+        encoder.onStop(null);
+    }
+
+    @Test
+    void shouldVerifyEncodedPassword() {
+        String hashed = encoder.encode("password");
+
+        assertThat(encoder.verify("password", hashed)).isTrue();
+        assertThat(encoder.verify("other", hashed)).isFalse();
+    }
+
+    @Test
+    void shouldFailFastWhenHashDoesNotFinishInTime() {
+        encoder.timeoutMillis = 1;
+
+        assertThatThrownBy(() -> encoder.encode("password")).isInstanceOf(HashingUnavailableException.class);
+    }
+
+    @Test
+    void shouldBoundPermitsByCoresAndMemory() {
+        assertThat(PasswordEncoder.derivedPermits(16, 4096)).isEqualTo(4);
+        assertThat(PasswordEncoder.derivedPermits(16, 128)).isEqualTo(2);
+        assertThat(PasswordEncoder.derivedPermits(2, 4096)).isEqualTo(1);
+    }
+}